@@ -0,0 +1,31 @@
+package aoc2025.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code target/benchmarks.jar}.
+ *
+ * <p>Runs the benchmarks matching the optional regex argument (all of them by default)
+ * with the GC profiler attached, so every result reports allocation rate
+ * ({@code gc.alloc.rate.norm} = bytes per operation) next to throughput and average time.
+ * Results are also written to {@code jmh-result.json} for regression tracking.
+ *
+ * <p>Pass any standard JMH command line instead (e.g. {@code -p day=7 -f 3}) by running
+ * {@code java -cp target/benchmarks.jar org.openjdk.jmh.Main ...}.
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "aoc2025.bench.*";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(org.openjdk.jmh.results.format.ResultFormatType.JSON)
+                .result("jmh-result.json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,88 @@
+package aoc2025.bench;
+
+import aoc2025.solutions.ByteInput;
+import aoc2025.solutions.Day01;
+import aoc2025.util.GenerateInputs;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Day 1 parsing and dial strategies on a generated log of one million moves. Every
+ * benchmark counts one operation per move, so the scores are moves per second; run with
+ * {@code -prof gc} to check that the byte parser and the kernels allocate nothing per move.
+ *
+ * <p>Parse: String lines vs. bytes. Parts: the original simulation vs. the floorMod/floorDiv
+ * kernel vs. the fork-join scan.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Day01Benchmark {
+    /** GenerateInputs writes 4,000 moves per unit of scale. */
+    static final int MOVES = 1_000_000;
+
+    private Day01 solution;
+    private ArrayList<String> lines;
+    private ByteInput bytes;
+    private int[] moves;
+
+    @Setup(Level.Trial)
+    public void loadInput() {
+        solution = new Day01();
+        lines = GenerateInputs.generateLines(1, MOVES / 4_000, 2025);
+        bytes = ByteInput.fromLines(lines);
+        moves = solution.parse(bytes);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public int[] parseLines() {
+        return solution.parse(lines);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public int[] parseBytes() {
+        return solution.parse(bytes);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public String part1Sequential() {
+        return solution.part1Sequential(moves);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public String part1Kernel() {
+        return solution.part1Kernel(moves);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public String part1Scan() {
+        return solution.part1(moves);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public String part2Sequential() {
+        return solution.part2Sequential(moves);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public String part2Kernel() {
+        return solution.part2Kernel(moves);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public String part2Scan() {
+        return solution.part2(moves);
+    }
+}
@@ -0,0 +1,94 @@
+package aoc2025.bench;
+
+import aoc2025.solutions.Day02;
+import aoc2025.solutions.InvalidIdCalculator;
+import aoc2025.solutions.PatternMatcher;
+import aoc2025.solutions.RangeSums;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the Day 2 part 2 strategies on the same ranges:
+ * scanning every ID with {@link PatternMatcher}, one at a time or classified per range
+ * into a bitset, vs. generating only the repeating IDs with {@link InvalidIdCalculator}
+ * vs. summing them in closed form, one range at a time or in parallel batches with
+ * {@link RangeSums}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Day02Benchmark {
+    @Param({"sample", "full"})
+    public String input;
+
+    private long[] lower;
+    private long[] upper;
+    private final BitSet classified = new BitSet();
+
+    @Setup(Level.Trial)
+    public void loadInput() {
+        Day02 solution = new Day02();
+        String line = (input.equals("sample") ? solution.getSampleLines() : solution.getInputLines()).get(0);
+        String[] ranges = line.split(",");
+        lower = new long[ranges.length];
+        upper = new long[ranges.length];
+        for (int i = 0; i < ranges.length; i++) {
+            String[] bounds = ranges[i].split("-");
+            lower[i] = Long.parseLong(bounds[0]);
+            upper[i] = Long.parseLong(bounds[1]);
+        }
+    }
+
+    @Benchmark
+    public long patternMatcher() {
+        long sum = 0;
+        for (int r = 0; r < lower.length; r++) {
+            for (long i = lower[r]; i <= upper[r]; i++) {
+                if (PatternMatcher.hasRepeatingPattern(i)) {
+                    sum += i;
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long patternMatcherBulk() {
+        long sum = 0;
+        for (int r = 0; r < lower.length; r++) {
+            PatternMatcher.classifyRange(lower[r], upper[r], classified);
+            for (int i = classified.nextSetBit(0); i >= 0 && i <= upper[r] - lower[r]; i = classified.nextSetBit(i + 1)) {
+                sum += lower[r] + i;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long invalidIdCalculator() {
+        long sum = 0;
+        for (int r = 0; r < lower.length; r++) {
+            sum += InvalidIdCalculator.sumInvalidIdsByEnumeration(lower[r], upper[r]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long closedForm() {
+        long sum = 0;
+        for (int r = 0; r < lower.length; r++) {
+            sum += InvalidIdCalculator.sumInvalidIds(lower[r], upper[r]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public String closedFormParallel() {
+        return RangeSums.sum(lower, upper,
+                (sum, from, to) -> sum.add(InvalidIdCalculator.sumInvalidIds(from, to)), RangeSums.NO_SPLIT).toString();
+    }
+}
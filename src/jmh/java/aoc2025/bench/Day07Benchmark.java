@@ -0,0 +1,58 @@
+package aoc2025.bench;
+
+import aoc2025.solutions.Day07;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the alternative Day 7 algorithms head to head.
+ *
+ * <p>Part 1: iterative row sweep vs. recursive DFS.
+ * Part 2: explicit stack vs. top-down memoization vs. bottom-up DP table.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Day07Benchmark {
+    @Param({"sample", "full"})
+    public String input;
+
+    private Day07.TachyonField field;
+    private Day07 solution;
+
+    @Setup(Level.Trial)
+    public void loadInput() {
+        solution = new Day07();
+        ArrayList<String> lines = input.equals("sample") ? solution.getSampleLines() : solution.getInputLines();
+        field = solution.parse(lines);
+    }
+
+    @Benchmark
+    public String part1Iterative() {
+        return solution.part1Iterative(field);
+    }
+
+    @Benchmark
+    public String part1Recursive() {
+        return solution.part1Recursive(field);
+    }
+
+    @Benchmark
+    public String part2Iterative() {
+        return solution.part2Iterative(field);
+    }
+
+    @Benchmark
+    public String part2Recursive() {
+        return solution.part2Recursive(field);
+    }
+
+    @Benchmark
+    public String part2BottomUp() {
+        return solution.part2BottomUp(field);
+    }
+}
@@ -0,0 +1,75 @@
+package aoc2025.bench;
+
+import aoc2025.solutions.Day;
+import aoc2025.solutions.DayRegistry;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * JMH benchmark for every {@link Day} subclass, one measurement per part.
+ *
+ * <p>Parameterized by day number and input set. The "sample" inputs are the
+ * {@code dayNN-sample.txt} files checked into {@code src/main/resources}; "full" expects
+ * the real {@code dayNN.txt} puzzle input next to them. Missing inputs fail only that
+ * parameter combination, JMH carries on with the rest.
+ *
+ * <p>The parse phase is measured on its own; the parts run on a model parsed once per trial.
+ * {@code variant1}/{@code variant2} select a {@link aoc2025.solutions.Variant} per part, so
+ * strategies can be compared on the same input, e.g.
+ * {@code -p day=7 -p variant2=default,memo,bottom-up}; {@code Main list} shows the names.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DayBenchmark {
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12"})
+    public int day;
+
+    @Param({"sample", "full"})
+    public String input;
+
+    @Param({Day.DEFAULT_VARIANT})
+    public String variant1;
+
+    @Param({Day.DEFAULT_VARIANT})
+    public String variant2;
+
+    private ArrayList<String> lines;
+    private Day<Object> solution;
+    private Object model;
+
+    @Setup(Level.Trial)
+    public void loadInput() {
+        solution = createDay(day);
+        solution.selectVariant(1, variant1);
+        solution.selectVariant(2, variant2);
+        lines = input.equals("sample") ? solution.getSampleLines() : solution.getInputLines();
+        model = solution.parse(lines);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return solution.parse(lines);
+    }
+
+    @Benchmark
+    public String part1() {
+        return solution.solvePart(1, model);
+    }
+
+    @Benchmark
+    public String part2() {
+        return solution.solvePart(2, model);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Day<Object> createDay(int day) {
+        Day<?> solution = DayRegistry.create(day);
+        if (solution == null) throw new IllegalArgumentException("No solution for day " + day);
+        return (Day<Object>) solution;
+    }
+}
@@ -0,0 +1,139 @@
+package aoc2025;
+
+import aoc2025.solutions.BenchReport;
+import aoc2025.solutions.ByteInput;
+import aoc2025.solutions.Day;
+import aoc2025.solutions.DayRegistry;
+import aoc2025.solutions.DayResult;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Solves a whole corpus of inputs: every file under a directory whose name (or parent
+ * directory name) starts with {@code dayNN} is solved by that day, e.g.
+ * {@code corpus/day08/alice.txt} or {@code corpus/day08-bob.txt}.
+ * <p>
+ * Tasks run on a work-stealing pool and each gets a fresh {@link Day} instance, so no
+ * solver state is shared between inputs. One CSV row per input is written (and flushed)
+ * as soon as it finishes; at the end the throughput and per-day latency percentiles are
+ * printed.
+ */
+public class BatchRunner {
+    private static final Pattern DAY_NAME = Pattern.compile("^day(\\d{1,2})");
+
+    private final Path inputDir;
+    private final Path csvFile;
+
+    public BatchRunner(Path inputDir, Path csvFile) {
+        this.inputDir = inputDir;
+        this.csvFile = csvFile;
+    }
+
+    public void run() throws IOException {
+        TreeMap<Integer, List<Path>> inputs = findInputs();
+        int total = inputs.values().stream().mapToInt(List::size).sum();
+        if (total == 0) {
+            System.out.println("No dayNN inputs found under " + inputDir);
+            return;
+        }
+
+        TreeMap<Integer, List<Long>> latencies = new TreeMap<>();
+        int[] failures = new int[1];
+        long start = System.nanoTime();
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(csvFile));
+             ExecutorService pool = Executors.newWorkStealingPool()) {
+            csv.println("day,file,status,answer1,answer2,parse_ms,part1_ms,part2_ms,total_ms");
+            for (Map.Entry<Integer, List<Path>> entry : inputs.entrySet()) {
+                int dayNumber = entry.getKey();
+                // Workers only see their day's list; the map itself is touched by this thread alone
+                List<Long> dayLatencies = new ArrayList<>();
+                latencies.put(dayNumber, dayLatencies);
+                for (Path file : entry.getValue()) {
+                    pool.execute(() -> {
+                        String row = solve(dayNumber, file, dayLatencies, failures);
+                        synchronized (csv) {
+                            csv.println(row);
+                            csv.flush();
+                        }
+                    });
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf(Locale.ROOT, "Solved %d inputs (%d failed) in %.3f s: %.1f inputs/s%n",
+                total, failures[0], elapsed / 1e9, total / (elapsed / 1e9));
+        System.out.printf("%-4s %8s %12s %12s %12s %12s%n", "Day", "inputs", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Integer, List<Long>> entry : latencies.entrySet()) {
+            if (entry.getValue().isEmpty()) continue;
+            BenchReport.Stats stats = new BenchReport.Stats("total", "",
+                    entry.getValue().stream().mapToLong(Long::longValue).toArray());
+            System.out.printf(Locale.ROOT, "%02d   %8d %12.3f %12.3f %12.3f %12.3f%n", entry.getKey(),
+                    entry.getValue().size(), stats.percentile(50) / 1e6, stats.percentile(99) / 1e6,
+                    stats.percentile(99.9) / 1e6, stats.max() / 1e6);
+        }
+        System.out.println("Results written to " + csvFile);
+    }
+
+    private String solve(int dayNumber, Path file, List<Long> latencies, int[] failures) {
+        long start = System.nanoTime();
+        try {
+            Day<?> day = DayRegistry.create(dayNumber);
+            DayResult result = day.run(ByteInput.fromPath(file));
+            long nanos = System.nanoTime() - start;
+            synchronized (latencies) {
+                latencies.add(nanos);
+            }
+            return String.format(Locale.ROOT, "%d,%s,ok,%s,%s,%.3f,%.3f,%.3f,%.3f", dayNumber, csvField(file.toString()),
+                    csvField(result.getAnswer1()), csvField(result.getAnswer2()),
+                    result.getParseNanos() / 1e6, result.getNanos1() / 1e6, result.getNanos2() / 1e6, nanos / 1e6);
+        } catch (Exception | StackOverflowError e) {
+            synchronized (failures) {
+                failures[0]++;
+            }
+            return String.format(Locale.ROOT, "%d,%s,%s,,,,,,%.3f", dayNumber, csvField(file.toString()),
+                    csvField("failed: " + e), (System.nanoTime() - start) / 1e6);
+        }
+    }
+
+    private TreeMap<Integer, List<Path>> findInputs() throws IOException {
+        TreeMap<Integer, List<Path>> inputs = new TreeMap<>();
+        try (Stream<Path> files = Files.walk(inputDir)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile).sorted()::iterator) {
+                int dayNumber = dayOf(file);
+                if (DayRegistry.find(dayNumber) != null) {
+                    inputs.computeIfAbsent(dayNumber, d -> new ArrayList<>()).add(file);
+                }
+            }
+        }
+        return inputs;
+    }
+
+    private static int dayOf(Path file) {
+        for (Path name : new Path[]{file.getFileName(), file.getParent() == null ? null : file.getParent().getFileName()}) {
+            if (name == null) continue;
+            Matcher matcher = DAY_NAME.matcher(name.toString().toLowerCase(Locale.ROOT));
+            if (matcher.find()) return Integer.parseInt(matcher.group(1));
+        }
+        return -1;
+    }
+
+    private static String csvField(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -1,11 +1,56 @@
 package aoc2025;
 
-import aoc2025.solutions.*;
+import aoc2025.solutions.Day;
+import aoc2025.solutions.DayRegistry;
+import aoc2025.solutions.DayResult;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class Main {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equalsIgnoreCase("all")) {
+            runAll();
+            return;
+        }
+        if (args.length > 0 && args[0].equalsIgnoreCase("list")) {
+            listDays();
+            return;
+        }
+        if (args.length > 0 && args[0].equalsIgnoreCase("verify")) {
+            verify(args);
+            return;
+        }
+        if (args.length > 1 && args[0].equalsIgnoreCase("batch")) {
+            Path csv = Path.of(args.length > 2 ? args[2] : "batch-results.csv");
+            try {
+                new BatchRunner(Path.of(args[1]), csv).run();
+            } catch (IOException e) {
+                System.out.println("Batch run failed: " + e.getMessage());
+            }
+            return;
+        }
+        if (args.length > 0 && (args[0].equalsIgnoreCase("serve") || args[0].equalsIgnoreCase("client"))) {
+            // Both ends use -Daoc.port, defaulting to SolverServer.DEFAULT_PORT
+            int port = Integer.getInteger("aoc.port", SolverServer.DEFAULT_PORT);
+            try {
+                if (args[0].equalsIgnoreCase("serve")) {
+                    new SolverServer(port).serve();
+                } else {
+                    new SolverClient(port).run(SolverClient.requestsFromArgs(args, 1));
+                }
+            } catch (IOException e) {
+                System.out.println("Solver connection failed on port " + port + ": " + e.getMessage());
+            }
+            return;
+        }
+
         int day;
         if (args.length > 0) {
             day = Integer.parseInt(args[0]);
@@ -21,29 +66,147 @@ public class Main {
             }
         }
 
-        Day solution = getDayInstance(day);
-        if (solution != null) {
+        Path stream = null;
+        for (int i = 1; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--bench")) {
+                System.setProperty("aoc.bench", "true");
+            } else if (option.equals("--no-cache")) {
+                System.setProperty("aoc.noCache", "true");
+            } else if (i + 1 >= args.length) {
+                System.out.println("Missing value for " + option);
+                return;
+            } else if (option.equals("--timeout")) {
+                System.setProperty("aoc.timeout", args[++i]);
+            } else if (option.equals("--stream")) {
+                stream = Path.of(args[++i]);
+            } else if (option.equals("--variant")) {
+                // --variant 2=bottom-up
+                String[] selection = args[++i].split("=", 2);
+                if (selection.length != 2 || !selection[0].matches("[12]")) {
+                    System.out.println("Expected --variant <part>=<name>, got " + args[i]);
+                    return;
+                }
+                System.setProperty(Day.variantProperty(day, Integer.parseInt(selection[0])), selection[1]);
+            } else {
+                System.out.println("Unknown option " + option);
+                return;
+            }
+        }
+
+        Day<?> solution;
+        try {
+            solution = DayRegistry.create(day);
+        } catch (IllegalStateException e) {
+            System.out.println(e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return;
+        }
+        if (solution != null && stream != null) {
+            try {
+                solution.runStreaming(stream).print();
+            } catch (IOException e) {
+                System.out.println("Could not read " + stream + ": " + e.getMessage());
+            } catch (UnsupportedOperationException e) {
+                System.out.println(e.getMessage());
+            }
+        } else if (solution != null) {
             solution.solve();
         } else {
             System.out.println("No solution implemented for Day " + day);
         }
     }
 
-    private static Day getDayInstance(int day) {
-        return switch (day) {
-            case 1 -> new Day01();
-            case 2 -> new Day02();
-            case 3 -> new Day03();
-            case 4 -> new Day04();
-            case 5 -> new Day05();
-            case 6 -> new Day06();
-            case 7 -> new Day07();
-            case 8 -> new Day08();
-            case 9 -> new Day09();
-            case 10 -> new Day10();
-            case 11 -> new Day11();
-            case 12 -> new Day12();
-            default -> null;
-        };
+    /**
+     * Solves every day concurrently in a single JVM, on a pool with one platform thread
+     * per core. The days are independent, so they spread across all cores and share one
+     * JIT warm-up. Platform threads (rather than virtual ones) keep the per-thread
+     * allocation counters working. Results are printed in day order once everything
+     * has finished.
+     */
+    private static void runAll() {
+        long start = System.nanoTime();
+        ArrayList<Future<DayResult>> futures = new ArrayList<>();
+        ArrayList<Integer> days = new ArrayList<>();
+        int threads = Math.min(DayRegistry.all().size(), Runtime.getRuntime().availableProcessors());
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (DayRegistry.Entry entry : DayRegistry.all()) {
+                days.add(entry.day());
+                futures.add(executor.submit(() -> {
+                    Day<?> solution = entry.create();
+                    return solution.run(solution.getSelectedInputBytes());
+                }));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println();
+        System.out.printf("%-4s %-20s %12s %12s %-20s %12s %12s%n", "Day", "Part 1", "ms", "allocated", "Part 2", "ms", "allocated");
+        long cpuTotal = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                DayResult result = futures.get(i).get();
+                cpuTotal += result.getNanos1() + result.getNanos2();
+                System.out.printf("%02d   %-20s %12.3f %12s %-20s %12.3f %12s%n", result.getDayNumber(),
+                        result.getAnswer1(), result.getNanos1() / 1e6, formatBytes(result.getPart1Metrics().getAllocatedBytes()),
+                        result.getAnswer2(), result.getNanos2() / 1e6, formatBytes(result.getPart2Metrics().getAllocatedBytes()));
+            } catch (ExecutionException e) {
+                System.out.printf("%02d   failed: %s%n", days.get(i), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        System.out.printf("Sum of part times: %.3f ms, total elapsed: %.3f ms%n", cpuTotal / 1e6, elapsed / 1e6);
+    }
+
+    /**
+     * {@code verify [day...] [--fuzz N] [--scale S] [--seed S]}: cross-checks the variants
+     * of the given days (all days with variants by default) on the selected input and N
+     * generated ones. Unless {@code aoc.timeout} is set, a variant gets 10 s per part, so
+     * a brute force on a big input is skipped rather than holding up the run. Exits with
+     * status 1 when variants disagree.
+     */
+    private static void verify(String[] args) {
+        ArrayList<Integer> days = new ArrayList<>();
+        int fuzz = 0;
+        int scale = 1;
+        long seed = 1;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith("--") && i + 1 >= args.length) {
+                System.out.println("Missing value for " + args[i]);
+                return;
+            }
+            switch (args[i]) {
+                case "--fuzz" -> fuzz = Integer.parseInt(args[++i]);
+                case "--scale" -> scale = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                default -> days.add(Integer.parseInt(args[i]));
+            }
+        }
+        if (System.getProperty("aoc.timeout") == null) {
+            System.setProperty("aoc.timeout", "10000");
+        }
+        if (new VariantVerifier(fuzz, scale, seed).verify(days) > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Prints every registered day and the named variants of each part, i.e. the names
+     * {@code Main <day> --variant <part>=<name>} accepts.
+     */
+    private static void listDays() {
+        for (DayRegistry.Entry entry : DayRegistry.all()) {
+            System.out.printf("Day %02d  %s%n", entry.day(), entry.type().getSimpleName());
+            for (DayRegistry.VariantInfo variant : entry.variants()) {
+                System.out.printf("        part %d  %-12s %s%s%n", variant.part(), variant.name(), variant.description(),
+                        variant.isDefault() ? " (default)" : "");
+            }
+        }
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 0) return "n/a";
+        return String.format("%.1f KB", bytes / 1024.0);
     }
 }
@@ -0,0 +1,72 @@
+package aoc2025;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command-line client for {@link SolverServer}. It sends every request over one
+ * connection and prints each response line as it arrives, along with the round trip
+ * time. Requests come from the command line as {@code <day> <part> [path]} groups or,
+ * when none are given, one per line from standard input.
+ */
+public class SolverClient {
+    private final int port;
+
+    public SolverClient(int port) {
+        this.port = port;
+    }
+
+    public void run(List<String> requests) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            socket.setTcpNoDelay(true);
+            if (!requests.isEmpty()) {
+                for (String request : requests) {
+                    send(request, in, out);
+                }
+            } else {
+                BufferedReader stdin = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+                String request;
+                while ((request = stdin.readLine()) != null) {
+                    if (!request.isBlank()) send(request, in, out);
+                }
+            }
+            out.println("QUIT");
+        }
+    }
+
+    private static void send(String request, BufferedReader in, PrintWriter out) throws IOException {
+        long start = System.nanoTime();
+        out.println(request);
+        String response = in.readLine();
+        if (response == null) throw new IOException("Server closed the connection");
+        System.out.printf("%s (round trip %.3f ms)%n", response, (System.nanoTime() - start) / 1e6);
+    }
+
+    /**
+     * Groups command-line arguments into {@code <day> <part> [path]} request lines. The
+     * path is optional (the server then uses the day's own input): an argument after the
+     * part that is a plain number starts the next request instead.
+     */
+    static List<String> requestsFromArgs(String[] args, int from) {
+        ArrayList<String> requests = new ArrayList<>();
+        int i = from;
+        while (i + 1 < args.length) {
+            String request = args[i] + " " + args[i + 1];
+            i += 2;
+            if (i < args.length && !args[i].matches("\\d+")) {
+                request += " " + args[i++];
+            }
+            requests.add(request);
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,141 @@
+package aoc2025;
+
+import aoc2025.solutions.ByteInput;
+import aoc2025.solutions.CancellationToken;
+import aoc2025.solutions.Day;
+import aoc2025.solutions.DayRegistry;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+
+/**
+ * Long-running solver that keeps the {@link Day} instances, their loaded classes and the
+ * JIT-compiled code resident between requests, so repeated solves skip JVM startup and
+ * warm-up. It listens on a loopback TCP port and speaks a line protocol; one connection
+ * can carry any number of requests.
+ *
+ * <pre>
+ * request:   &lt;day&gt; &lt;part&gt; [input path]     part is 1, 2 or both; no path means the day's own input
+ *            QUIT                             closes the connection
+ *            SHUTDOWN                         stops the server
+ * response:  OK day=1 parse_us=41 part1=3 part1_us=12 part2=6 part2_us=9
+ *            ERR &lt;message&gt;
+ * </pre>
+ *
+ * Timings are measured on the server around the parse and each part, which run the
+ * variants selected with {@code -Daoc.variant.dayNN.partN} when the server started.
+ * Requests for the same day are serialized; different days run concurrently.
+ * <p>
+ * Each part runs under the {@code aoc.timeout} deadline, {@value #DEFAULT_TIMEOUT_MILLIS} ms
+ * unless set, so one runaway request cannot hold its day (and connection) forever; a part
+ * that overruns it is answered with {@code ERR} and its timeout report.
+ */
+public class SolverServer {
+    public static final int DEFAULT_PORT = 2025;
+    public static final long DEFAULT_TIMEOUT_MILLIS = 60_000;
+
+    private final int port;
+    private final HashMap<Integer, Day<?>> days = new HashMap<>();
+    private volatile boolean running = true;
+
+    public SolverServer(int port) {
+        this.port = port;
+    }
+
+    public void serve() throws IOException {
+        if (System.getProperty("aoc.timeout") == null) {
+            System.setProperty("aoc.timeout", Long.toString(DEFAULT_TIMEOUT_MILLIS));
+        }
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            System.out.printf("Solver listening on %s:%d%n", server.getInetAddress().getHostAddress(), server.getLocalPort());
+            while (running) {
+                Socket socket = server.accept();
+                Thread.ofVirtual().start(() -> handle(socket, server));
+            }
+        } catch (IOException e) {
+            // accept() fails once SHUTDOWN has closed the server socket
+            if (running) throw e;
+        }
+    }
+
+    private void handle(Socket socket, ServerSocket server) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty()) continue;
+                if (line.equalsIgnoreCase("QUIT")) break;
+                if (line.equalsIgnoreCase("SHUTDOWN")) {
+                    out.println("OK shutting down");
+                    running = false;
+                    server.close();
+                    break;
+                }
+                out.println(respond(line));
+            }
+        } catch (IOException e) {
+            System.out.println("Connection failed: " + e.getMessage());
+        }
+    }
+
+    private String respond(String request) {
+        String[] fields = request.split("\\s+", 3);
+        if (fields.length < 2) return "ERR expected: <day> <part> [input path]";
+        int dayNumber;
+        try {
+            dayNumber = Integer.parseInt(fields[0]);
+        } catch (NumberFormatException e) {
+            return "ERR invalid day: " + fields[0];
+        }
+        boolean part1 = fields[1].equals("1") || fields[1].equalsIgnoreCase("both");
+        boolean part2 = fields[1].equals("2") || fields[1].equalsIgnoreCase("both");
+        if (!part1 && !part2) return "ERR invalid part: " + fields[1];
+
+        Day<?> day = getDay(dayNumber);
+        if (day == null) return "ERR no solution implemented for Day " + dayNumber;
+        try {
+            ByteInput input = fields.length > 2 ? ByteInput.fromPath(Path.of(fields[2])) : day.getSelectedInputBytes();
+            synchronized (day) {
+                return solve(day, input, part1, part2);
+            }
+        } catch (IOException e) {
+            return "ERR could not read " + fields[2] + ": " + e.getMessage();
+        } catch (RuntimeException e) {
+            return "ERR " + e;
+        }
+    }
+
+    private static <M> String solve(Day<M> day, ByteInput input, boolean part1, boolean part2) {
+        StringBuilder response = new StringBuilder("OK day=").append(day.getDayNumber());
+        long start = System.nanoTime();
+        M model = day.parse(input);
+        response.append(" parse_us=").append((System.nanoTime() - start) / 1_000);
+        for (int part = 1; part <= 2; part++) {
+            if (part == 1 ? !part1 : !part2) continue;
+            start = System.nanoTime();
+            String answer = day.runPart(part, model);
+            if (CancellationToken.isTimeoutReport(answer)) {
+                return "ERR day " + day.getDayNumber() + " part " + part + " " + answer;
+            }
+            response.append(" part").append(part).append('=').append(answer)
+                    .append(" part").append(part).append("_us=").append((System.nanoTime() - start) / 1_000);
+        }
+        return response.toString();
+    }
+
+    private synchronized Day<?> getDay(int dayNumber) {
+        if (!days.containsKey(dayNumber)) {
+            days.put(dayNumber, DayRegistry.create(dayNumber));
+        }
+        return days.get(dayNumber);
+    }
+}
@@ -0,0 +1,211 @@
+package aoc2025;
+
+import aoc2025.solutions.CancellationToken;
+import aoc2025.solutions.Day;
+import aoc2025.solutions.DayRegistry;
+import aoc2025.util.GenerateInputs;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Differential check of the {@link aoc2025.solutions.Variant}s of a day: every variant of
+ * a part solves the same parsed input, in parallel, and must give the default's answer.
+ * <p>
+ * The input is the day's selected input, optionally followed by a number of generated
+ * ones ({@link GenerateInputs} with consecutive seeds). A generated input on which the
+ * variants disagree is written to {@code target/verify-failures} so the case can be
+ * replayed with {@code Main <day> --stream <file>} or fed to the batch runner.
+ * <p>
+ * Only variants that finished are compared: two of them with different answers are a
+ * MISMATCH. A variant that throws is an ERROR, and a default that overruns
+ * {@code aoc.timeout} leaves nothing to check the others against, so that part is
+ * reported as TIMEOUT unless two other variants finished; other variants that time out
+ * are just listed. Mismatches and errors both count as failures.
+ */
+public class VariantVerifier {
+    private static final Path FAILURE_DIR = Path.of("target", "verify-failures");
+
+    private final int fuzzCount;
+    private final int scale;
+    private final long firstSeed;
+    private int mismatches;
+    private int errors;
+
+    /**
+     * @param fuzzCount generated inputs to check per day after the selected input
+     * @param scale size multiplier passed to the generator
+     * @param firstSeed seed of the first generated input; later ones count up from it
+     */
+    public VariantVerifier(int fuzzCount, int scale, long firstSeed) {
+        this.fuzzCount = fuzzCount;
+        this.scale = scale;
+        this.firstSeed = firstSeed;
+    }
+
+    private record Outcome(String variant, String answer, long nanos, Throwable error) {
+        boolean timedOut() {
+            return error == null && CancellationToken.isTimeoutReport(answer);
+        }
+
+        String describe() {
+            if (error != null) return variant + " failed: " + error;
+            if (timedOut()) return variant + " " + answer;
+            return String.format("%s=%s (%.3f ms)", variant, answer, nanos / 1e6);
+        }
+    }
+
+    /**
+     * Checks the given days, or every day with variants when {@code days} is empty.
+     *
+     * @return the number of (input, part) combinations whose variants disagreed or failed
+     */
+    public int verify(List<Integer> days) {
+        List<DayRegistry.Entry> entries = new ArrayList<>();
+        if (days.isEmpty()) {
+            for (DayRegistry.Entry entry : DayRegistry.all()) {
+                if (!entry.variants().isEmpty()) entries.add(entry);
+            }
+        } else {
+            for (int day : days) {
+                DayRegistry.Entry entry = DayRegistry.find(day);
+                if (entry == null) {
+                    System.out.println("No solution implemented for Day " + day);
+                } else if (entry.variants().isEmpty()) {
+                    System.out.printf("Day %02d has no variants to compare%n", day);
+                } else {
+                    entries.add(entry);
+                }
+            }
+        }
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())) {
+            for (DayRegistry.Entry entry : entries) {
+                check(entry, "selected input", day -> day.parse(day.getSelectedInputBytes()), null, pool);
+                for (int i = 0; i < fuzzCount; i++) {
+                    long seed = firstSeed + i;
+                    ArrayList<String> lines = GenerateInputs.generateLines(entry.day(), scale, seed);
+                    String name = String.format("day%02d-x%d-s%d.txt", entry.day(), scale, seed);
+                    check(entry, "generated " + name, day -> day.parse(lines), () -> dump(name, lines), pool);
+                }
+            }
+        }
+        if (mismatches == 0 && errors == 0) {
+            System.out.println("All variants agree");
+        } else {
+            System.out.println(mismatches + " mismatch(es) and " + errors + " error(s) found");
+        }
+        return mismatches + errors;
+    }
+
+    private void check(DayRegistry.Entry entry, String source, Function<Day<Object>, Object> parser,
+                       Runnable onMismatch, ExecutorService pool) {
+        Day<Object> parsing = cast(entry.create());
+        Object model;
+        try {
+            model = parser.apply(parsing);
+        } catch (RuntimeException e) {
+            System.out.printf("Day %02d %s: could not parse: %s%n", entry.day(), source, e);
+            return;
+        }
+
+        boolean diverged = false;
+        for (int part = 1; part <= 2; part++) {
+            List<String> names = new ArrayList<>(List.of(Day.DEFAULT_VARIANT));
+            for (DayRegistry.VariantInfo variant : entry.variants()) {
+                if (variant.part() == part && !variant.isDefault()) names.add(variant.name());
+            }
+            if (names.size() < 2) continue;
+
+            // Models are read-only, so every variant can share the one parsed above
+            List<Future<Outcome>> futures = new ArrayList<>();
+            for (String name : names) {
+                futures.add(pool.submit(solve(entry, part, name, model)));
+            }
+            List<Outcome> outcomes = new ArrayList<>();
+            for (Future<Outcome> future : futures) {
+                try {
+                    outcomes.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            String reference = null;
+            int finished = 0;
+            boolean agree = true;
+            boolean failed = false;
+            for (Outcome outcome : outcomes) {
+                if (outcome.error() != null) {
+                    failed = true;
+                } else if (!outcome.timedOut()) {
+                    finished++;
+                    if (reference == null) {
+                        reference = outcome.answer();
+                    } else if (!outcome.answer().equals(reference)) {
+                        agree = false;
+                    }
+                }
+            }
+
+            StringBuilder line = new StringBuilder(String.format("Day %02d part %d, %s: ", entry.day(), part, source));
+            if (!agree) {
+                line.append("MISMATCH, ");
+                mismatches++;
+                diverged = true;
+            } else if (failed) {
+                line.append("ERROR, ");
+                errors++;
+                diverged = true;
+            } else if (finished < 2) {
+                line.append(outcomes.get(0).timedOut() ? "TIMEOUT, " : "nothing to compare, ");
+            } else {
+                line.append("OK, ");
+            }
+            line.append(String.join(", ", outcomes.stream().map(Outcome::describe).toList()));
+            System.out.println(line);
+        }
+        if (diverged && onMismatch != null) onMismatch.run();
+    }
+
+    private static Callable<Outcome> solve(DayRegistry.Entry entry, int part, String name, Object model) {
+        return () -> {
+            Day<Object> day = cast(entry.create());
+            day.selectVariant(part, name);
+            long start = System.nanoTime();
+            try {
+                String answer = day.runPart(part, model);
+                return new Outcome(name, answer, System.nanoTime() - start, null);
+            } catch (RuntimeException | StackOverflowError e) {
+                return new Outcome(name, null, System.nanoTime() - start, e);
+            }
+        };
+    }
+
+    private static void dump(String name, List<String> lines) {
+        try {
+            Files.createDirectories(FAILURE_DIR);
+            Path file = FAILURE_DIR.resolve(name);
+            Files.write(file, lines);
+            System.out.println("  diverging input written to " + file);
+        } catch (IOException e) {
+            System.out.println("  could not write diverging input " + name + ": " + e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Day<Object> cast(Day<?> day) {
+        return (Day<Object>) day;
+    }
+}
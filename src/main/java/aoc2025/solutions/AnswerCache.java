@@ -0,0 +1,91 @@
+package aoc2025.solutions;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+
+/**
+ * Answers from earlier runs, keyed by (day, part, SHA-256 of the input, solver version),
+ * so an unchanged solver never re-solves an unchanged input.
+ * <p>
+ * The cache is one tab-separated file, {@code day part input-hash version nanos answer}
+ * per line, appended to as parts are solved; a later line for the same key wins. It lives
+ * at {@code ~/.cache/aoc/answers.tsv} unless {@code -Daoc.answerCache} names another file.
+ */
+public class AnswerCache {
+    private static final Object FILE_LOCK = new Object();
+
+    private final Path file;
+    private final HashMap<String, Entry> entries = new HashMap<>();
+
+    /**
+     * A cached answer and how long the part originally took.
+     */
+    public record Entry(String answer, long nanos) { }
+
+    private AnswerCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Whether {@link Day#solve()} should consult the cache: not in benchmark mode and not
+     * when {@code -Daoc.noCache=true} asks to bypass it.
+     */
+    public static boolean isEnabled() {
+        return !Boolean.getBoolean("aoc.bench") && !Boolean.getBoolean("aoc.noCache");
+    }
+
+    /**
+     * Loads the cache file; a missing or unreadable file gives an empty cache.
+     */
+    public static AnswerCache load() {
+        String configured = System.getProperty("aoc.answerCache");
+        Path file = configured != null ? Path.of(configured)
+                : Path.of(System.getProperty("user.home"), ".cache", "aoc", "answers.tsv");
+        AnswerCache cache = new AnswerCache(file);
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split("\t", 6);
+                    if (fields.length < 6) continue;
+                    cache.entries.put(key(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]), fields[2], fields[3]),
+                            new Entry(fields[5], Long.parseLong(fields[4])));
+                }
+            } catch (IOException | NumberFormatException e) {
+                System.out.println("Ignoring unreadable answer cache " + file + ": " + e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    public Entry get(int day, int part, String inputHash, String version) {
+        return entries.get(key(day, part, inputHash, version));
+    }
+
+    /**
+     * Records an answer in memory and appends it to the cache file. Answers that span
+     * lines or contain tabs are not cached.
+     */
+    public void put(int day, int part, String inputHash, String version, String answer, long nanos) {
+        if (answer.indexOf('\t') >= 0 || answer.indexOf('\n') >= 0) return;
+        entries.put(key(day, part, inputHash, version), new Entry(answer, nanos));
+        String line = day + "\t" + part + "\t" + inputHash + "\t" + version + "\t" + nanos + "\t" + answer + "\n";
+        synchronized (FILE_LOCK) {
+            try {
+                if (file.toAbsolutePath().getParent() != null) Files.createDirectories(file.toAbsolutePath().getParent());
+                Files.writeString(file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                System.out.println("Could not update answer cache " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static String key(int day, int part, String inputHash, String version) {
+        return day + "/" + part + "/" + inputHash + "/" + version;
+    }
+}
@@ -54,4 +54,65 @@ public class Bank {
         }
         return joltage;
     }
+
+    /**
+     * Byte-level version of {@link #maxJoltage(String)}: reads the digits of one input
+     * line directly, without creating a String per bank or per digit.
+     */
+    public static int maxJoltage(ByteInput input, int line) {
+        int start = input.lineStart(line);
+        int end = input.lineEnd(line);
+        int tens = input.byteAt(start) - '0';
+        int ones = input.byteAt(start + 1) - '0';
+        int second = ones;
+
+        for (int i = start + 2; i < end; i++) {
+            int first = second;
+            second = input.byteAt(i) - '0';
+            if (first > tens) {
+                tens = first;
+                ones = second;
+            } else if (second > ones) {
+                ones = second;
+            }
+        }
+
+        return tens*10 + ones;
+    }
+
+    /**
+     * Byte-level version of {@link #maxJoltage(String, int)}. The selection buffer is
+     * passed in so a caller looping over many banks can reuse it.
+     */
+    public static long maxJoltage(ByteInput input, int line, int[] selectedBatteries) {
+        int numBatteries = selectedBatteries.length;
+        int start = input.lineStart(line);
+        int end = input.lineEnd(line);
+        int selectedCount = 0;
+        int toSkip = end - start - numBatteries;
+
+        for (int i = start; i < end; i++) {
+            int currentDigit = input.byteAt(i) - '0';
+
+            while (selectedCount > 0 &&
+                   toSkip > 0 &&
+                   selectedBatteries[selectedCount - 1] < currentDigit) {
+                selectedCount--;
+                toSkip--;
+            }
+
+            if (selectedCount < numBatteries) {
+                selectedBatteries[selectedCount] = currentDigit;
+                selectedCount++;
+            } else {
+                toSkip--;
+            }
+        }
+
+        long joltage = 0;
+        for (int i = 0; i < numBatteries; i++) {
+            joltage = 10 * joltage + selectedBatteries[i];
+        }
+        return joltage;
+    }
 }
@@ -0,0 +1,151 @@
+package aoc2025.solutions;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Timing statistics of a {@link Day} run in benchmark mode: the parse phase and each
+ * part were run several times after a warm-up, and every measured run was timed with
+ * {@link System#nanoTime()}.
+ *
+ * <p>This is a lightweight in-process complement to the JMH benchmarks, meant for quick
+ * checks on a machine where only the application jar is available.
+ */
+public class BenchReport {
+    private final int dayNumber;
+    private final int warmup;
+    private final ArrayList<Stats> phases = new ArrayList<>();
+
+    public BenchReport(int dayNumber, int warmup) {
+        this.dayNumber = dayNumber;
+        this.warmup = warmup;
+    }
+
+    public void add(Stats stats) {
+        phases.add(stats);
+    }
+
+    public ArrayList<Stats> getPhases() {
+        return phases;
+    }
+
+    public void print() {
+        System.out.printf("Day %02d benchmark (%d warm-up, %d measured iterations)%n",
+                dayNumber, warmup, phases.isEmpty() ? 0 : phases.get(0).samples.length);
+        System.out.printf("  %-16s %-18s %12s %12s %12s %12s %12s %14s%n",
+                "Phase", "Answer", "min us", "median us", "p90 us", "p99 us", "max us", "ops/s");
+        for (Stats stats : phases) {
+            System.out.printf(Locale.ROOT, "  %-16s %-18s %12.3f %12.3f %12.3f %12.3f %12.3f %14.1f%n",
+                    stats.phase, stats.answer,
+                    stats.min() / 1e3, stats.percentile(50) / 1e3, stats.percentile(90) / 1e3,
+                    stats.percentile(99) / 1e3, stats.max() / 1e3, stats.opsPerSecond());
+        }
+    }
+
+    /**
+     * Writes the report to a file: ".json" files get one JSON document for this day
+     * (overwritten), anything else is treated as CSV and rows are appended, with a
+     * header when the file is new, so several days can share one file.
+     *
+     * @param path the output file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path path) throws IOException {
+        if (path.toString().endsWith(".json")) {
+            Files.writeString(path, toJson());
+            return;
+        }
+        boolean isNew = !Files.exists(path);
+        try (Writer writer = Files.newBufferedWriter(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (isNew) {
+                writer.write("day,phase,answer,warmup,iterations,min_ns,median_ns,p90_ns,p99_ns,max_ns,mean_ns,ops_per_sec\n");
+            }
+            for (Stats stats : phases) {
+                writer.write(String.format(Locale.ROOT, "%d,%s,%s,%d,%d,%d,%d,%d,%d,%d,%.1f,%.3f%n",
+                        dayNumber, stats.phase, stats.answer, warmup, stats.samples.length,
+                        stats.min(), stats.percentile(50), stats.percentile(90), stats.percentile(99),
+                        stats.max(), stats.mean(), stats.opsPerSecond()));
+            }
+        }
+    }
+
+    private String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"day\":").append(dayNumber).append(",\"warmup\":").append(warmup).append(",\"phases\":[");
+        for (int i = 0; i < phases.size(); i++) {
+            Stats stats = phases.get(i);
+            if (i > 0) json.append(',');
+            json.append(String.format(Locale.ROOT,
+                    "{\"phase\":\"%s\",\"answer\":\"%s\",\"iterations\":%d,\"minNs\":%d,\"medianNs\":%d,"
+                            + "\"p90Ns\":%d,\"p99Ns\":%d,\"maxNs\":%d,\"meanNs\":%.1f,\"opsPerSec\":%.3f}",
+                    stats.phase, stats.answer.replace("\\", "\\\\").replace("\"", "\\\""), stats.samples.length,
+                    stats.min(), stats.percentile(50), stats.percentile(90), stats.percentile(99),
+                    stats.max(), stats.mean(), stats.opsPerSecond()));
+        }
+        return json.append("]}\n").toString();
+    }
+
+    /**
+     * The measured run times of one phase ("parse", "part1" or "part2").
+     */
+    public static class Stats {
+        private final String phase;
+        private final String answer;
+        private final long[] samples;
+
+        /**
+         * @param phase the phase name
+         * @param answer the answer the phase produced (parse has none)
+         * @param samples the run time of every measured iteration in nanoseconds
+         */
+        public Stats(String phase, String answer, long[] samples) {
+            this.phase = phase;
+            this.answer = answer;
+            this.samples = samples.clone();
+            Arrays.sort(this.samples);
+        }
+
+        public String getPhase() {
+            return phase;
+        }
+
+        public String getAnswer() {
+            return answer;
+        }
+
+        public long min() {
+            return samples[0];
+        }
+
+        public long max() {
+            return samples[samples.length - 1];
+        }
+
+        public double mean() {
+            double total = 0;
+            for (long sample : samples) total += sample;
+            return total / samples.length;
+        }
+
+        /**
+         * Nearest-rank percentile.
+         *
+         * @param percent 0-100
+         * @return the sample at that rank in nanoseconds
+         */
+        public long percentile(double percent) {
+            int rank = (int) Math.ceil(percent / 100.0 * samples.length);
+            return samples[Math.max(0, Math.min(samples.length - 1, rank - 1))];
+        }
+
+        public double opsPerSecond() {
+            return 1e9 / mean();
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package aoc2025.solutions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Puzzle input held as raw bytes with a line-offset index.
+ *
+ * <p>The bytes are either a memory-mapped file or a single array, so loading never
+ * decodes or copies the text into {@code String}s. Solvers that opt in read numbers
+ * and characters straight from the bytes through a {@link Cursor}; everything else
+ * can still ask for {@link #lines()}, which is materialized once on first use.
+ *
+ * <p>Input is treated as ASCII. Lines end with {@code \n} or {@code \r\n}; a trailing
+ * newline does not produce an empty last line (same as {@code BufferedReader.lines()}).
+ * A single mapping is limited to 2 GB.
+ */
+public class ByteInput {
+    private final ByteBuffer bytes;
+    private final int size;
+    /** lineStarts[i] is the offset of line i; lineStarts[lineCount] is one past the last newline. */
+    private final int[] lineStarts;
+    private final int lineCount;
+    private ArrayList<String> lines;
+
+    private ByteInput(ByteBuffer bytes) {
+        this.bytes = bytes;
+        this.size = bytes.limit();
+
+        int[] starts = new int[1024];
+        int count = 0;
+        int position = 0;
+        while (position < size) {
+            if (count + 1 >= starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+            }
+            starts[count] = position;
+            count++;
+            while (position < size && bytes.get(position) != '\n') {
+                position++;
+            }
+            position++; // skip the newline (or step past the end)
+        }
+        starts[count] = position;
+        this.lineStarts = starts;
+        this.lineCount = count;
+    }
+
+    /**
+     * Memory-maps a file read-only.
+     *
+     * @param path the file to map
+     * @return the mapped input
+     * @throws IOException if the file cannot be opened or is larger than 2 GB
+     */
+    public static ByteInput fromPath(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Input too large to map: " + path + " (" + length + " bytes)");
+            }
+            return new ByteInput(channel.map(FileChannel.MapMode.READ_ONLY, 0, length));
+        }
+    }
+
+    /**
+     * Loads a classpath resource. Resources on the file system are memory-mapped,
+     * resources inside a jar are read into a single array.
+     *
+     * @param anchor class whose class loader resolves the resource
+     * @param name absolute resource name, e.g. "/day01.txt"
+     * @return the input
+     * @throws IOException if the resource does not exist or cannot be read
+     */
+    public static ByteInput fromResource(Class<?> anchor, String name) throws IOException {
+        URL url = anchor.getResource(name);
+        if (url == null) throw new IOException("Input file not found: " + name);
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return fromPath(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                // fall through and stream it
+            }
+        }
+        try (InputStream is = url.openStream()) {
+            return new ByteInput(ByteBuffer.wrap(is.readAllBytes()));
+        }
+    }
+
+    /**
+     * Wraps lines that are already in memory, e.g. from a test or an older loader.
+     *
+     * @param lines the input lines
+     * @return the same input as bytes
+     */
+    public static ByteInput fromLines(List<String> lines) {
+        ByteInput input = fromBytes((String.join("\n", lines) + "\n").getBytes(StandardCharsets.US_ASCII));
+        input.lines = new ArrayList<>(lines);
+        return input;
+    }
+
+    /**
+     * Wraps a byte array without copying it.
+     *
+     * @param data the input bytes
+     * @return the input
+     */
+    public static ByteInput fromBytes(byte[] data) {
+        return new ByteInput(ByteBuffer.wrap(data));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the SHA-256 of the raw input bytes, as lowercase hex
+     */
+    public String sha256() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(bytes.duplicate().position(0).limit(size));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int lineCount() {
+        return lineCount;
+    }
+
+    /** @return the offset of the first byte of the line */
+    public int lineStart(int line) {
+        return lineStarts[line];
+    }
+
+    /** @return the offset one past the last byte of the line, excluding the line terminator */
+    public int lineEnd(int line) {
+        int end = Math.min(lineStarts[line + 1] - 1, size);
+        if (end > lineStarts[line] && bytes.get(end - 1) == '\r') {
+            end--;
+        }
+        return end;
+    }
+
+    public int lineLength(int line) {
+        return lineEnd(line) - lineStarts[line];
+    }
+
+    public byte byteAt(int offset) {
+        return bytes.get(offset);
+    }
+
+    /**
+     * Decodes all lines into Strings. The list is built once and cached, so solvers
+     * using the classic {@code ArrayList<String>} contract pay for it only one time.
+     *
+     * @return the input lines
+     */
+    public ArrayList<String> lines() {
+        if (lines == null) {
+            ArrayList<String> result = new ArrayList<>(lineCount);
+            for (int i = 0; i < lineCount; i++) {
+                result.add(lineString(i));
+            }
+            lines = result;
+        }
+        return lines;
+    }
+
+    /** @return one line decoded as a String */
+    public String lineString(int line) {
+        int start = lineStart(line);
+        byte[] data = new byte[lineEnd(line) - start];
+        bytes.get(start, data);
+        return new String(data, StandardCharsets.US_ASCII);
+    }
+
+    /** @return a cursor positioned at the start of the given line and limited to it */
+    public Cursor cursor(int line) {
+        return new Cursor().reset(line);
+    }
+
+    /** @return a cursor over the whole input, newlines included */
+    public Cursor cursor() {
+        Cursor cursor = new Cursor();
+        cursor.position = 0;
+        cursor.limit = size;
+        return cursor;
+    }
+
+    /**
+     * Sequential reader over a slice of the input. A cursor is reusable: call
+     * {@link #reset(int)} to move it to another line instead of allocating a new one.
+     *
+     * <p>{@link #nextInt()} and {@link #nextLong()} skip any non-digit bytes before the
+     * number and parse unsigned decimal digits, so separators such as ",", "-", ":" and
+     * spaces need no special handling.
+     */
+    public class Cursor {
+        private int position;
+        private int limit;
+
+        /** Moves the cursor to the start of a line and limits it to that line. */
+        public Cursor reset(int line) {
+            position = lineStart(line);
+            limit = lineEnd(line);
+            return this;
+        }
+
+        public boolean hasNext() {
+            return position < limit;
+        }
+
+        public int position() {
+            return position;
+        }
+
+        public int remaining() {
+            return limit - position;
+        }
+
+        public byte peek() {
+            return bytes.get(position);
+        }
+
+        public char nextChar() {
+            return (char) bytes.get(position++);
+        }
+
+        /** @return the value of the next byte as a digit 0-9 (no validation) */
+        public int nextDigit() {
+            return bytes.get(position++) - '0';
+        }
+
+        public void skip(int count) {
+            position = Math.min(position + count, limit);
+        }
+
+        /** Skips spaces and tabs; returns true if anything is left afterwards. */
+        public boolean skipSpaces() {
+            while (position < limit && (bytes.get(position) == ' ' || bytes.get(position) == '\t')) {
+                position++;
+            }
+            return position < limit;
+        }
+
+        /** @return true if another digit follows somewhere before the limit */
+        public boolean hasNextNumber() {
+            for (int i = position; i < limit; i++) {
+                byte b = bytes.get(i);
+                if (b >= '0' && b <= '9') return true;
+            }
+            return false;
+        }
+
+        public int nextInt() {
+            return (int) nextLong();
+        }
+
+        public long nextLong() {
+            while (position < limit && (bytes.get(position) < '0' || bytes.get(position) > '9')) {
+                position++;
+            }
+            if (position >= limit) {
+                throw new IllegalStateException("No number left at offset " + position);
+            }
+            long value = 0;
+            while (position < limit) {
+                int digit = bytes.get(position) - '0';
+                if (digit < 0 || digit > 9) break;
+                value = value * 10 + digit;
+                position++;
+            }
+            return value;
+        }
+    }
+}
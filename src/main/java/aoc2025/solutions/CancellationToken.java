@@ -0,0 +1,117 @@
+package aoc2025.solutions;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cooperative cancellation for long-running parts. {@link Day} installs a token on the
+ * thread running a part, and a watchdog cancels it (and interrupts the thread) once the
+ * deadline passes. Search loops that can run unbounded call {@link #checkpoint()} on
+ * {@link #current()}, which throws {@link PartCancelledException} after a cancel.
+ * <p>
+ * Loops may also record how far they got with {@link #progress(String, long, long)};
+ * it only stores the numbers, so it is cheap enough to call on every iteration, and the
+ * text is only assembled for the timeout report.
+ */
+public final class CancellationToken {
+    private static final String TIMEOUT_PREFIX = "timed out after ";
+    private static final ThreadLocal<CancellationToken> CURRENT = new ThreadLocal<>();
+    private static final CancellationToken NONE = new CancellationToken(0);
+    private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "part-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long timeoutMillis;
+    private volatile boolean cancelled;
+    private boolean finished;
+    // Written and read only by the worker thread, so plain fields are enough
+    private String unit;
+    private long done;
+    private long total;
+
+    private CancellationToken(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * The token of the part running on this thread. Without a deadline this is a shared
+     * token that never cancels by itself but still honours thread interruption.
+     */
+    public static CancellationToken current() {
+        CancellationToken token = CURRENT.get();
+        return token == null ? NONE : token;
+    }
+
+    /**
+     * Throws if the part has been cancelled or its thread interrupted.
+     */
+    public void checkpoint() {
+        if (cancelled || Thread.currentThread().isInterrupted()) {
+            throw new PartCancelledException(this == NONE ? "cancelled" : describe());
+        }
+    }
+
+    /**
+     * Records partial progress, e.g. {@code progress("pairs checked", 1200, 5000)}.
+     * A total of 0 means the total is unknown.
+     */
+    public void progress(String unit, long done, long total) {
+        if (this == NONE) return;
+        this.unit = unit;
+        this.done = done;
+        this.total = total;
+    }
+
+    /**
+     * Runs one part with a deadline: installs a fresh token on this thread and schedules
+     * the watchdog to cancel it. A timeout of 0 or less runs the part without a deadline.
+     */
+    static String runWithDeadline(long timeoutMillis, Supplier<String> part) {
+        if (timeoutMillis <= 0) return part.get();
+        CancellationToken token = new CancellationToken(timeoutMillis);
+        Thread worker = Thread.currentThread();
+        ScheduledFuture<?> alarm = WATCHDOG.schedule(() -> token.cancel(worker), timeoutMillis, TimeUnit.MILLISECONDS);
+        CURRENT.set(token);
+        try {
+            return part.get();
+        } catch (PartCancelledException e) {
+            return e.getMessage();
+        } catch (RuntimeException e) {
+            // Interrupting blocking I/O (a streamed input, say) fails it with its own exception
+            if (token.cancelled) return token.describe();
+            throw e;
+        } finally {
+            CURRENT.remove();
+            alarm.cancel(false);
+            synchronized (token) {
+                token.finished = true;
+            }
+            // Clear an interrupt the watchdog raised so it does not leak into the next part
+            if (token.cancelled) Thread.interrupted();
+        }
+    }
+
+    private synchronized void cancel(Thread worker) {
+        if (finished) return;
+        cancelled = true;
+        worker.interrupt();
+    }
+
+    /**
+     * Whether an answer is the report of a part that timed out rather than a real answer.
+     */
+    public static boolean isTimeoutReport(String answer) {
+        return answer.startsWith(TIMEOUT_PREFIX);
+    }
+
+    private String describe() {
+        String message = TIMEOUT_PREFIX + timeoutMillis + " ms with partial progress: ";
+        if (unit == null) return message + "none recorded";
+        return message + done + (total > 0 ? " of " + total : "") + " " + unit;
+    }
+}
@@ -5,12 +5,56 @@ import java.io.InputStream;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Base class of every daily solution.
+ *
+ * <p>A run has three phases: {@link #parse(ArrayList)} turns the raw input into a model of
+ * type {@code M} once, then {@link #part1(Object)} and {@link #part2(Object)} both solve from
+ * that same model. Models must not be modified by the parts, so the parts can run in any
+ * order or concurrently. Days without a useful model use {@code ArrayList<String>} and
+ * return the input unchanged.
+ *
+ * <p>A part can have several algorithms. The alternatives are public methods marked with
+ * {@link Variant}; {@link #selectVariant(int, String)} (or
+ * {@code -Daoc.variant.dayNN.partN=<name>}) picks which one {@link #solvePart(int, Object)}
+ * and every run and benchmark entry point use. Without a selection the parts run
+ * {@code part1}/{@code part2}, which is always available as "default".
+ *
+ * @param <M> the parsed model shared by both parts
+ */
+public abstract class Day<M> {
+    /** Name under which {@code part1}/{@code part2} can always be selected. */
+    public static final String DEFAULT_VARIANT = "default";
 
-public abstract class Day {
     private final int dayNumber;
+    /** Selected variant method per part (index 1 and 2); null runs part1/part2. */
+    private final Method[] variantMethods = new Method[3];
+    private final String[] variantNames = {null, DEFAULT_VARIANT, DEFAULT_VARIANT};
+    /** Keeps benchmark results observable so the JIT cannot eliminate them. */
+    private static volatile int benchSink;
 
     public Day(int dayNumber) {
         this.dayNumber = dayNumber;
+        for (int part = 1; part <= 2; part++) {
+            String name = System.getProperty(variantProperty(dayNumber, part));
+            if (name != null) selectVariant(part, name);
+        }
+    }
+
+    public int getDayNumber() {
+        return dayNumber;
     }
 
     public ArrayList<String> getInputLines() {
@@ -22,6 +66,17 @@ public abstract class Day {
             throw new RuntimeException("Could not read input file: " + filename, e);
         }
     }
+
+    public ArrayList<String> getSampleLines() {
+        String filename = String.format("/day%02d-sample.txt", dayNumber);
+        try (InputStream is = getClass().getResourceAsStream(filename)) {
+            if (is == null) throw new IOException("Input file not found: " + filename);
+            return new ArrayList<>(new BufferedReader(new InputStreamReader(is)).lines().toList());
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read input file: " + filename, e);
+        }
+    }
+
     protected ArrayList<String> loadInput(int day) {
         String sampleFlag = System.getProperty("aoc.sample");
         if (sampleFlag == null) {
@@ -36,28 +91,423 @@ public abstract class Day {
         }
     }
 
-    public abstract String part1(ArrayList<String> input);
-    public abstract String part2(ArrayList<String> input);
+    /**
+     * Parses the input lines into the model handed to both parts.
+     *
+     * @param input the puzzle input lines
+     * @return the model; treated as read-only from here on
+     */
+    public abstract M parse(ArrayList<String> input);
 
-    public void solve() {
-        ArrayList<String> input;
+    /**
+     * Byte-level parse. Solvers that read numbers straight from bytes override this; the
+     * default decodes the lines (once, cached by the input) and calls {@link #parse(ArrayList)}.
+     */
+    public M parse(ByteInput input) {
+        return parse(input.lines());
+    }
+
+    public abstract String part1(M model);
+    public abstract String part2(M model);
+
+    /**
+     * The system property that selects a variant when a day is created, e.g.
+     * {@code aoc.variant.day07.part2}.
+     */
+    public static String variantProperty(int day, int part) {
+        return String.format("aoc.variant.day%02d.part%d", day, part);
+    }
+
+    /**
+     * @return the {@link Variant} methods of this day, ordered by part and name
+     */
+    public final List<DayRegistry.VariantInfo> variants() {
+        return DayRegistry.variantsOf(getClass());
+    }
+
+    /**
+     * Chooses the algorithm {@link #solvePart(int, Object)} runs for a part.
+     *
+     * @param part 1 or 2
+     * @param name a {@link Variant#name()} of that part, or {@link #DEFAULT_VARIANT}
+     * @throws IllegalArgumentException if the part has no variant of that name
+     */
+    public final void selectVariant(int part, String name) {
+        checkPart(part);
+        if (name.equals(DEFAULT_VARIANT)) {
+            variantMethods[part] = null;
+            variantNames[part] = DEFAULT_VARIANT;
+            return;
+        }
+        for (Method method : getClass().getMethods()) {
+            Variant variant = method.getAnnotation(Variant.class);
+            if (variant != null && !method.isBridge() && variant.part() == part && variant.name().equals(name)) {
+                // A variant on part1/part2 itself is just a name for the default
+                variantMethods[part] = method.getName().equals("part" + part) ? null : method;
+                variantNames[part] = name;
+                return;
+            }
+        }
+        String available = variants().stream().filter(v -> v.part() == part)
+                .map(DayRegistry.VariantInfo::name).collect(Collectors.joining(", "));
+        throw new IllegalArgumentException("Day " + dayNumber + " part " + part + " has no variant \"" + name
+                + "\"; available: " + (available.isEmpty() ? DEFAULT_VARIANT : DEFAULT_VARIANT + ", " + available));
+    }
+
+    /**
+     * @param part 1 or 2
+     * @return the name of the variant selected for the part
+     */
+    public String getSelectedVariant(int part) {
+        checkPart(part);
+        return variantNames[part];
+    }
+
+    /**
+     * Solves one part with the selected variant.
+     *
+     * @param part 1 or 2
+     * @param model the parsed input
+     * @return the answer
+     */
+    public String solvePart(int part, M model) {
+        checkPart(part);
+        Method method = variantMethods[part];
+        if (method == null) {
+            return part == 1 ? part1(model) : part2(model);
+        }
+        try {
+            return (String) method.invoke(this, model);
+        } catch (InvocationTargetException e) {
+            // Rethrow as is, so cancellation and solver failures look the same as from part1/part2
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Variant " + method.getName() + " of Day " + dayNumber + " is not accessible", e);
+        }
+    }
+
+    /**
+     * Solves one part with the selected variant under the {@code aoc.timeout} deadline,
+     * the way every run does. A part that overruns the deadline returns its timeout report
+     * (see {@link CancellationToken#isTimeoutReport(String)}) instead of an answer.
+     *
+     * @param part 1 or 2
+     * @param model the parsed input
+     * @return the answer or timeout report
+     */
+    public String runPart(int part, M model) {
+        return CancellationToken.runWithDeadline(partTimeoutMillis(), () -> solvePart(part, model));
+    }
+
+    private void checkPart(int part) {
+        if (part != 1 && part != 2) throw new IllegalArgumentException("No part " + part);
+    }
+
+    /**
+     * Whether this day implements {@link #streamPart1(Iterator)} and {@link #streamPart2(Iterator)}.
+     * Only days whose algorithm needs a single forward pass over the input do.
+     */
+    public boolean supportsStreaming() {
+        return false;
+    }
+
+    /**
+     * Streaming entry point for part 1: consumes the lines one at a time and must not
+     * hold on to them, so inputs larger than the heap can be solved.
+     *
+     * @param lines the input lines, read lazily
+     * @return the answer
+     * @throws UnsupportedOperationException if {@link #supportsStreaming()} is false
+     */
+    public String streamPart1(Iterator<String> lines) {
+        throw new UnsupportedOperationException("Day " + dayNumber + " does not support streaming");
+    }
+
+    /**
+     * Streaming entry point for part 2. See {@link #streamPart1(Iterator)}.
+     */
+    public String streamPart2(Iterator<String> lines) {
+        throw new UnsupportedOperationException("Day " + dayNumber + " does not support streaming");
+    }
+
+    /**
+     * Solves both parts by streaming a file twice, once per part.
+     *
+     * @param path the input file
+     * @return the answers and measurements of each part
+     * @throws IOException if the file cannot be read
+     */
+    public DayResult runStreaming(Path path) throws IOException {
+        if (!supportsStreaming()) {
+            throw new UnsupportedOperationException("Day " + dayNumber + " does not support streaming");
+        }
+        PartMetrics.Recorder recorder = PartMetrics.start(dayNumber, "part1");
+        String result1;
+        try (LineSource lines = LineSource.open(path)) {
+            result1 = CancellationToken.runWithDeadline(partTimeoutMillis(), () -> streamPart1(lines));
+        }
+        PartMetrics metrics1 = recorder.stop();
+
+        recorder = PartMetrics.start(dayNumber, "part2");
+        String result2;
+        try (LineSource lines = LineSource.open(path)) {
+            result2 = CancellationToken.runWithDeadline(partTimeoutMillis(), () -> streamPart2(lines));
+        }
+        PartMetrics metrics2 = recorder.stop();
+        return new DayResult(dayNumber, null, result1, metrics1, result2, metrics2);
+    }
+
+    /**
+     * Byte-level counterpart of {@link #getSelectedInput()}: the sample or real input,
+     * memory-mapped without decoding it into Strings.
+     */
+    public ByteInput getSelectedInputBytes() {
+        String sampleFlag = System.getProperty("aoc.sample");
+        if (sampleFlag == null) {
+            sampleFlag = System.getenv("AOC_SAMPLE");
+        }
+        boolean sample = sampleFlag != null && sampleFlag.equalsIgnoreCase("true");
+        String filename = String.format("/day%02d%s.txt", dayNumber, sample ? "-sample" : "");
+        try {
+            return ByteInput.fromResource(getClass(), filename);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read input file: " + filename, e);
+        }
+    }
+
+    /**
+     * Loads the input selected by the {@code aoc.sample} system property (or the
+     * {@code AOC_SAMPLE} environment variable): the sample file when it is "true",
+     * the real puzzle input otherwise.
+     */
+    public ArrayList<String> getSelectedInput() {
         String sampleFlag = System.getProperty("aoc.sample");
         if (sampleFlag == null) {
             sampleFlag = System.getenv("AOC_SAMPLE");
         }
         if (sampleFlag != null && sampleFlag.equalsIgnoreCase("true")) {
-            input = loadInput(dayNumber);
+            return loadInput(dayNumber);
+        }
+        return getInputLines();
+    }
+
+    /**
+     * Parses the input and runs both parts on the model without printing anything.
+     *
+     * @param input the puzzle input lines
+     * @return the answers and measurements of the parse and each part
+     */
+    public DayResult run(ArrayList<String> input) {
+        PartMetrics.Recorder recorder = PartMetrics.start(dayNumber, "parse");
+        M model = parse(input);
+        return runParts(model, recorder.stop());
+    }
+
+    /**
+     * Parses byte input and runs both parts on the model without printing anything.
+     *
+     * @param input the puzzle input
+     * @return the answers and measurements of the parse and each part
+     */
+    public DayResult run(ByteInput input) {
+        PartMetrics.Recorder recorder = PartMetrics.start(dayNumber, "parse");
+        M model = parse(input);
+        return runParts(model, recorder.stop());
+    }
+
+    /**
+     * The per-part deadline from {@code -Daoc.timeout} in milliseconds; 0 (the default)
+     * means no deadline. A part that overruns it is cancelled and its answer replaced by
+     * a "timed out after X ms with partial progress" report.
+     */
+    private static long partTimeoutMillis() {
+        return Long.getLong("aoc.timeout", 0);
+    }
+
+    /**
+     * Like {@link #run(ByteInput)}, but parts whose answer is in the cache for this input
+     * and solver version are not run; the input is not even parsed when both are cached.
+     * Freshly computed answers are added to the cache, except for parts that timed out.
+     * A part running a non-default variant is cached under its own version, so a wrong
+     * variant cannot hide behind the default's answer.
+     *
+     * @param input the puzzle input
+     * @param cache the answers of earlier runs
+     * @return the answers, with {@link PartMetrics#cached(long)} metrics for cache hits
+     */
+    public DayResult runCached(ByteInput input, AnswerCache cache) {
+        String inputHash = input.sha256();
+        String version = solverVersion();
+        String version1 = variantMethods[1] == null ? version : version + "+" + variantNames[1];
+        String version2 = variantMethods[2] == null ? version : version + "+" + variantNames[2];
+        AnswerCache.Entry hit1 = cache.get(dayNumber, 1, inputHash, version1);
+        AnswerCache.Entry hit2 = cache.get(dayNumber, 2, inputHash, version2);
+
+        M model = null;
+        PartMetrics parseMetrics = null;
+        if (hit1 == null || hit2 == null) {
+            PartMetrics.Recorder recorder = PartMetrics.start(dayNumber, "parse");
+            model = parse(input);
+            parseMetrics = recorder.stop();
+        }
+
+        String result1;
+        PartMetrics metrics1;
+        if (hit1 != null) {
+            result1 = hit1.answer();
+            metrics1 = PartMetrics.cached(hit1.nanos());
         } else {
-            input = getInputLines();
+            PartMetrics.Recorder recorder = PartMetrics.start(dayNumber, "part1");
+            result1 = runPart(1, model);
+            metrics1 = recorder.stop();
+            if (!CancellationToken.isTimeoutReport(result1)) {
+                cache.put(dayNumber, 1, inputHash, version1, result1, metrics1.getNanos());
+            }
         }
-        long start1 = System.currentTimeMillis();
-        String result1 = part1(input);
-        long time1 = System.currentTimeMillis() - start1;
-        System.out.printf("Day %02d - Part 1: %s (%d ms)%n", dayNumber, result1, time1);
 
-        long start2 = System.currentTimeMillis();
-        String result2 = part2(input);
-        long time2 = System.currentTimeMillis() - start2;
-        System.out.printf("Day %02d - Part 2: %s (%d ms)%n", dayNumber, result2, time2);
+        String result2;
+        PartMetrics metrics2;
+        if (hit2 != null) {
+            result2 = hit2.answer();
+            metrics2 = PartMetrics.cached(hit2.nanos());
+        } else {
+            PartMetrics.Recorder recorder = PartMetrics.start(dayNumber, "part2");
+            result2 = runPart(2, model);
+            metrics2 = recorder.stop();
+            if (!CancellationToken.isTimeoutReport(result2)) {
+                cache.put(dayNumber, 2, inputHash, version2, result2, metrics2.getNanos());
+            }
+        }
+        return new DayResult(dayNumber, parseMetrics, result1, metrics1, result2, metrics2);
+    }
+
+    /**
+     * The classes whose bytecode makes up this solver, for {@link #solverVersion()}.
+     * Nested classes of the listed classes are included automatically. Days that
+     * delegate to helper classes add them here.
+     */
+    protected List<Class<?>> solverClasses() {
+        return List.of(getClass());
+    }
+
+    /**
+     * Identifies the solver code: a SHA-256 over the bytecode of {@link #solverClasses()},
+     * so it changes whenever one of them is recompiled with a different body.
+     *
+     * @return 16 hex digits
+     */
+    public String solverVersion() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ArrayDeque<Class<?>> pending = new ArrayDeque<>(solverClasses());
+            while (!pending.isEmpty()) {
+                Class<?> solverClass = pending.poll();
+                String resource = "/" + solverClass.getName().replace('.', '/') + ".class";
+                try (InputStream is = solverClass.getResourceAsStream(resource)) {
+                    if (is != null) digest.update(is.readAllBytes());
+                }
+                pending.addAll(Arrays.asList(solverClass.getDeclaredClasses()));
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new IllegalStateException("Could not fingerprint Day " + dayNumber, e);
+        }
+    }
+
+    private DayResult runParts(M model, PartMetrics parseMetrics) {
+        PartMetrics.Recorder recorder = PartMetrics.start(dayNumber, "part1");
+        String result1 = runPart(1, model);
+        PartMetrics metrics1 = recorder.stop();
+
+        recorder = PartMetrics.start(dayNumber, "part2");
+        String result2 = runPart(2, model);
+        PartMetrics metrics2 = recorder.stop();
+        return new DayResult(dayNumber, parseMetrics, result1, metrics1, result2, metrics2);
+    }
+
+    /**
+     * Benchmarks the parse phase and both parts: each is run {@code warmup} times untimed,
+     * then {@code iterations} times with {@link System#nanoTime()} around every call.
+     * Results are folded into a volatile sink so the JIT cannot drop the work.
+     *
+     * @param input the puzzle input
+     * @param warmup untimed runs per phase
+     * @param iterations timed runs per phase (at least 1)
+     * @return the timing statistics
+     */
+    public BenchReport bench(ByteInput input, int warmup, int iterations) {
+        BenchReport report = new BenchReport(dayNumber, warmup);
+        iterations = Math.max(1, iterations);
+
+        M model = null;
+        for (int i = 0; i < warmup; i++) {
+            model = parse(input);
+            benchSink += model.hashCode();
+        }
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            model = parse(input);
+            samples[i] = System.nanoTime() - start;
+            benchSink += model.hashCode();
+        }
+        report.add(new BenchReport.Stats("parse", "", samples));
+        report.add(benchPart(1, model, warmup, iterations));
+        report.add(benchPart(2, model, warmup, iterations));
+        return report;
+    }
+
+    private BenchReport.Stats benchPart(int part, M model, int warmup, int iterations) {
+        String answer = "";
+        for (int i = 0; i < warmup; i++) {
+            answer = solvePart(part, model);
+            benchSink += answer.hashCode();
+        }
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            answer = solvePart(part, model);
+            samples[i] = System.nanoTime() - start;
+            benchSink += answer.hashCode();
+        }
+        String phase = variantMethods[part] == null ? "part" + part : "part" + part + "/" + variantNames[part];
+        return new BenchReport.Stats(phase, answer, samples);
+    }
+
+    /**
+     * Solves the selected input and prints the answers.
+     *
+     * <p>With {@code -Daoc.bench=true} (or {@code Main <day> --bench}) it benchmarks instead:
+     * {@code aoc.bench.warmup} (default 5) warm-up and {@code aoc.bench.iterations}
+     * (default 20) measured runs per phase, printed as min/median/p90/p99/max and ops/s.
+     * {@code aoc.bench.output} names an optional .csv or .json file to write them to.
+     *
+     * <p>Outside benchmark mode answers go through the {@link AnswerCache}, unless
+     * {@code -Daoc.noCache=true} (or {@code Main <day> --no-cache}) bypasses it.
+     */
+    public void solve() {
+        ByteInput input = getSelectedInputBytes();
+        if (AnswerCache.isEnabled()) {
+            runCached(input, AnswerCache.load()).print();
+            return;
+        }
+        if (!Boolean.getBoolean("aoc.bench")) {
+            run(input).print();
+            return;
+        }
+
+        BenchReport report = bench(input, Integer.getInteger("aoc.bench.warmup", 5),
+                Integer.getInteger("aoc.bench.iterations", 20));
+        report.print();
+        String output = System.getProperty("aoc.bench.output");
+        if (output != null) {
+            try {
+                report.write(Path.of(output));
+            } catch (IOException e) {
+                System.out.println("Could not write " + output + ": " + e.getMessage());
+            }
+        }
     }
 }
@@ -1,14 +1,25 @@
 package aoc2025.solutions;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * Solution for Advent of Code 2025 - Day 1.
  * <p>
  * Part 1: Simulates a dial with 100 positions, counting how many times it lands on 0.
  * Part 2: Handles wraparounds and counts additional events when crossing zero.
+ * <p>
+ * Both parts are solved by {@link DialScan}: the moves are split into chunks whose
+ * effects are combined, so huge move logs are spread over all cores. Streamed input is
+ * read in batches that are scanned the same way, so files larger than the heap work too.
+ * The original one-move-at-a-time simulations remain as the "sequential" variants.
  */
-public class Day01 extends Day {
+@DayInfo(day = 1)
+public class Day01 extends Day<int[]> {
+    /** Moves read per batch when streaming. */
+    private static final int STREAM_BATCH = 1 << 20;
+
     /**
      * Constructs the Day 1 solution.
      */
@@ -17,25 +28,69 @@ public class Day01 extends Day {
     }
 
     @Override
+    protected List<Class<?>> solverClasses() {
+        return List.of(getClass(), DialScan.class, DialIndex.class);
+    }
+
+    /**
+     * Turns each move into a signed click count: right is positive, left negative.
+     */
+    @Override
+    public int[] parse(ArrayList<String> input) {
+        int[] moves = new int[input.size()];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = parseMove(input.get(i));
+        }
+        return moves;
+    }
+
+    /**
+     * Reads the moves straight from the bytes: the direction byte, then the digits.
+     * Nothing is allocated per move.
+     */
+    @Override
+    public int[] parse(ByteInput input) {
+        int[] moves = new int[input.lineCount()];
+        ByteInput.Cursor cursor = input.cursor();
+        for (int i = 0; i < moves.length; i++) {
+            cursor.reset(i);
+            char direction = cursor.nextChar();
+            int clicks = cursor.nextInt();
+            moves[i] = direction == 'L' ? -clicks : clicks;
+        }
+        return moves;
+    }
+
+    private static int parseMove(String line) {
+        int clicks = Integer.parseInt(line.substring(1));
+        return line.charAt(0) == 'L' ? -clicks : clicks;
+    }
+
     /**
      * Solves Part 1: Simulates a dial with 100 positions, starting at 50.
      * Each line indicates a direction ('L' or 'R') and a number of clicks.
      * Counts how many times the dial lands exactly on position 0 after a move.
      *
-     * @param input List of input strings, each representing a move
+     * @param moves the signed moves
      * @return the number of times the dial lands on 0
      */
-    public String part1(ArrayList<String> input) {
-        int position = 50;
-        int count = 0;
-        for (String line : input) {
-            // Parse the number of clicks from the input
-            int clicks = Integer.parseInt(line.substring(1));
-            // Determine direction
-            if (line.substring(0, 1).equals("L")) {
-                clicks = -clicks;
-            }
+    @Override
+    @Variant(part = 1, name = "scan", description = "Chunk summaries combined by a fork-join reduction")
+    public String part1(int[] moves) {
+        return Long.toString(DialScan.scan(moves, 0, moves.length, DialScan.Rule.LANDINGS).hitsFrom(50));
+    }
 
+    /**
+     * Part 1 one move at a time, as first written.
+     *
+     * @param moves the signed moves
+     * @return the number of times the dial lands on 0
+     */
+    @Variant(part = 1, name = "sequential", description = "Simulates the moves one at a time")
+    public String part1Sequential(int[] moves) {
+        int position = 50;
+        long count = 0;
+        for (int clicks : moves) {
             position += clicks;
             // Wrap position to [0, 99]
             while (position < 0) {
@@ -50,23 +105,52 @@ public class Day01 extends Day {
                 count++;
             }
         }
-        return Integer.toString(count);
+        return Long.toString(count);
+    }
+
+    /**
+     * Part 1 as straight-line arithmetic: floorMod wraps the position in one step, so
+     * there are no correction loops and no data-dependent branches.
+     *
+     * @param moves the signed moves
+     * @return the number of times the dial lands on 0
+     */
+    @Variant(part = 1, name = "kernel", description = "Single pass with floorMod, no wrap loops")
+    public String part1Kernel(int[] moves) {
+        int position = 50;
+        long count = 0;
+        for (int move : moves) {
+            position = Math.floorMod(position + move, 100);
+            count += position == 0 ? 1 : 0;
+        }
+        return Long.toString(count);
     }
 
-    @Override
     /**
      * Solves Part 2: Handles wraparounds and counts additional events when crossing zero.
      * For each move, counts how many times the dial passes or lands on 0, including full rotations.
      *
-     * @param input List of input strings, each representing a move
+     * @param moves the signed moves
      * @return the total number of times the dial passes or lands on 0
      */
-    public String part2(ArrayList<String> input) {
+    @Override
+    @Variant(part = 2, name = "scan", description = "Chunk summaries combined by a fork-join reduction")
+    public String part2(int[] moves) {
+        return Long.toString(DialScan.scan(moves, 0, moves.length, DialScan.Rule.CLICKS).hitsFrom(50));
+    }
+
+    /**
+     * Part 2 one move at a time, as first written.
+     *
+     * @param moves the signed moves
+     * @return the total number of times the dial passes or lands on 0
+     */
+    @Variant(part = 2, name = "sequential", description = "Simulates the moves one at a time")
+    public String part2Sequential(int[] moves) {
         int position = 50;
-        int count = 0;
-        for (String line : input) {
-            // Parse the number of clicks from the input
-            int clicks = Integer.parseInt(line.substring(1));
+        long count = 0;
+        for (int move : moves) {
+            int clicks = Math.abs(move);
 
             // Add to count for every complete 100-click rotation (each time the dial passes zero)
             count += clicks / 100;
@@ -74,15 +158,16 @@ public class Day01 extends Day {
             clicks = clicks % 100;
 
             // Determine direction
-            if (line.substring(0, 1).equals("L")) {
+            if (move < 0) {
                 clicks = -clicks;
             }
 
             int oldPosition = position;
             position += clicks;
 
-            // Handle wraparounds and zero crossings
-            if (position == 0) {
+            // Handle wraparounds and zero crossings. A move of whole turns from 0 ends at 0
+            // without another visit; its visits were all counted above.
+            if (position == 0 && clicks != 0) {
                 count++;
             } else if (position < 0 && oldPosition > 0) {
                 position += 100;
@@ -92,12 +177,108 @@ public class Day01 extends Day {
             } else if (position >= 100) {
                 position -= 100;
                 count++;
-            } else if (position > 0 && oldPosition < 0) {
-                count++;
             }
+        }
+
+        return Long.toString(count);
+    }
 
+    /**
+     * Part 2 as straight-line arithmetic with one division per move. The zeros a move
+     * passes are the multiples of 100 it clicks through: (p, p + move] going right, which
+     * is floorDiv(p + move, 100), and [p + move, p) going left, which is the same count
+     * negated, plus a landing on 0, minus a start from 0.
+     *
+     * @param moves the signed moves
+     * @return the total number of times the dial passes or lands on 0
+     */
+    @Variant(part = 2, name = "kernel", description = "Single pass with floorDiv/floorMod, no branch chain")
+    public String part2Kernel(int[] moves) {
+        int position = 50;
+        long count = 0;
+        for (int move : moves) {
+            int target = position + move;
+            int turns = Math.floorDiv(target, 100);
+            int next = target - 100 * turns;
+            count += move >= 0 ? turns : (next == 0 ? 1 : 0) - (position == 0 ? 1 : 0) - turns;
+            position = next;
         }
+        return Long.toString(count);
+    }
+
+    /**
+     * Part 1 read off a {@link DialIndex}; mainly a cross-check of the index.
+     *
+     * @param moves the signed moves
+     * @return the number of times the dial lands on 0
+     */
+    @Variant(part = 1, name = "index", description = "Builds the position/hit index and reads the total")
+    public String part1Index(int[] moves) {
+        return Long.toString(index(moves).landings(moves.length));
+    }
+
+    /**
+     * Part 2 read off a {@link DialIndex}; mainly a cross-check of the index.
+     *
+     * @param moves the signed moves
+     * @return the total number of times the dial passes or lands on 0
+     */
+    @Variant(part = 2, name = "index", description = "Builds the position/hit index and reads the total")
+    public String part2Index(int[] moves) {
+        return Long.toString(index(moves).clicks(moves.length));
+    }
+
+    /**
+     * Indexes the moves for repeated queries: the position after any move and the hits
+     * of both parts between any two moves, each in constant time.
+     *
+     * @param moves the signed moves
+     * @return the index, starting from the puzzle's position 50
+     */
+    public DialIndex index(int[] moves) {
+        return DialIndex.build(moves, 50);
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
 
-        return Integer.toString(count);
+    /**
+     * Streaming form of {@link #part1(int[])}: scans the moves a batch at a time.
+     *
+     * @param lines the moves, read lazily
+     * @return the number of times the dial lands on 0
+     */
+    @Override
+    public String streamPart1(Iterator<String> lines) {
+        return streamScan(lines, DialScan.Rule.LANDINGS);
+    }
+
+    /**
+     * Streaming form of {@link #part2(int[])}: scans the moves a batch at a time.
+     *
+     * @param lines the moves, read lazily
+     * @return the total number of times the dial passes or lands on 0
+     */
+    @Override
+    public String streamPart2(Iterator<String> lines) {
+        return streamScan(lines, DialScan.Rule.CLICKS);
+    }
+
+    private static String streamScan(Iterator<String> lines, DialScan.Rule rule) {
+        int[] batch = new int[STREAM_BATCH];
+        int position = 50;
+        long count = 0;
+        while (lines.hasNext()) {
+            int size = 0;
+            while (size < batch.length && lines.hasNext()) {
+                batch[size++] = parseMove(lines.next());
+            }
+            DialScan.Summary summary = DialScan.scan(batch, 0, size, rule);
+            count += summary.hitsFrom(position);
+            position = summary.exitFrom(position);
+        }
+        return Long.toString(count);
     }
 }
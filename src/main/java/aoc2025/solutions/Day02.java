@@ -1,16 +1,46 @@
 
 package aoc2025.solutions;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Solution for Advent of Code 2025 Day 2.
  * <p>
  * Note: This solution uses long and Long.parseLong due to input values exceeding int range.
  * This is an exception to the AP CSA Java subset, which only allows int/Integer.parseInt.
- * All other code is AP CSA compliant.
+ * All other code is AP CSA compliant. Ranges beyond a long (up to 10^38 and more) are kept
+ * as BigIntegers; only the closed-form variants can sum those.
  */
-public class Day02 extends Day {
+@DayInfo(day = 2)
+public class Day02 extends Day<Day02.IdRanges> {
+
+    /** IDs per parallel task for the rules that test every ID. */
+    private static final long LEAF_SPAN = 1 << 16;
+
+    /**
+     * The parsed ranges, coalesced so that no ID lies in two of them: the sorted bounds of
+     * those that fit in a long, and the rare {lower, upper} pairs that do not.
+     */
+    public record IdRanges(long[] lowers, long[] uppers, BigInteger[][] wideRanges) {
+        /** @return the number of long ranges */
+        public int size() {
+            return lowers.length;
+        }
+
+        /**
+         * Fails for algorithms that only work on longs when some range does not fit.
+         *
+         * @throws ArithmeticException if some range does not fit in a long
+         */
+        void requireNarrow() {
+            if (wideRanges.length > 0) {
+                throw new ArithmeticException("Range " + wideRanges[0][0] + "-" + wideRanges[0][1] + " does not fit in a long");
+            }
+        }
+    }
 
     /**
      * Constructs the Day 2 solution object.
@@ -19,25 +49,192 @@ public class Day02 extends Day {
         super(2);
     }
 
+    @Override
+    protected List<Class<?>> solverClasses() {
+        return List.of(getClass(), InvalidIdCalculator.class, ExactSum.class, RangeSums.class, PatternMatcher.class);
+    }
+
+    /**
+     * Parses the single line of comma-separated "lower-upper" ranges. Overlapping ranges
+     * are merged here, so every variant counts an ID covered twice only once.
+     *
+     * @param input ArrayList of input lines (expects a single line of comma-separated ranges)
+     * @return the parsed ranges
+     */
+    @Override
+    public IdRanges parse(ArrayList<String> input) {
+        // Separate the ranges by comma
+        String[] rangeStrings = input.get(0).split(",");
+        long[] lowers = new long[rangeStrings.length];
+        long[] uppers = new long[rangeStrings.length];
+        int count = 0;
+        ArrayList<BigInteger[]> wideRanges = new ArrayList<>();
+
+        for (String rangeString : rangeStrings) {
+            // Split each range into lower and upper bounds
+            String[] bounds = rangeString.split("-");
+            try {
+                long lower = Long.parseLong(bounds[0]); // AP CSA exception: must use long
+                long upper = Long.parseLong(bounds[1]);
+                lowers[count] = lower;
+                uppers[count] = upper;
+                count++;
+            } catch (NumberFormatException e) {
+                wideRanges.add(new BigInteger[] {new BigInteger(bounds[0]), new BigInteger(bounds[1])});
+            }
+        }
+        return coalesced(Arrays.copyOf(lowers, count), Arrays.copyOf(uppers, count), wideRanges);
+    }
+
+    /**
+     * Byte-level parse for inputs with very many ranges: reads the bounds straight into
+     * the long arrays. A bound too long for a long sends the whole line through
+     * {@link #parse(ArrayList)} instead.
+     *
+     * @param input the raw input
+     * @return the parsed ranges
+     */
+    @Override
+    public IdRanges parse(ByteInput input) {
+        ByteInput.Cursor cursor = input.cursor(0);
+        long[] lowers = new long[64];
+        long[] uppers = new long[64];
+        int count = 0;
+        while (cursor.hasNextNumber()) {
+            if (count == lowers.length) {
+                lowers = Arrays.copyOf(lowers, count * 2);
+                uppers = Arrays.copyOf(uppers, count * 2);
+            }
+            lowers[count] = nextBound(cursor);
+            uppers[count] = nextBound(cursor);
+            if (lowers[count] < 0 || uppers[count] < 0) return parse(input.lines());
+            count++;
+        }
+        return coalesced(Arrays.copyOf(lowers, count), Arrays.copyOf(uppers, count), List.of());
+    }
+
+    /**
+     * Merges overlapping ranges. Without wide ranges this is {@link RangeSums#coalesce}; with
+     * them, everything is merged as BigIntegers, since a wide range can swallow long ones,
+     * and the merged ranges that fit go back to the long arrays.
+     */
+    private static IdRanges coalesced(long[] lowers, long[] uppers, List<BigInteger[]> wideRanges) {
+        if (wideRanges.isEmpty()) {
+            long[][] merged = RangeSums.coalesce(lowers, uppers);
+            return new IdRanges(merged[0], merged[1], new BigInteger[0][]);
+        }
+
+        ArrayList<BigInteger[]> ranges = new ArrayList<>(wideRanges);
+        for (int i = 0; i < lowers.length; i++) {
+            ranges.add(new BigInteger[] {BigInteger.valueOf(lowers[i]), BigInteger.valueOf(uppers[i])});
+        }
+        ranges.removeIf(range -> range[0].compareTo(range[1]) > 0);
+        ranges.sort((a, b) -> a[0].compareTo(b[0]));
+
+        ArrayList<BigInteger[]> merged = new ArrayList<>();
+        for (BigInteger[] range : ranges) {
+            BigInteger[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0].compareTo(last[1].add(BigInteger.ONE)) <= 0) {
+                last[1] = last[1].max(range[1]);
+            } else {
+                merged.add(new BigInteger[] {range[0], range[1]});
+            }
+        }
+
+        BigInteger longMax = BigInteger.valueOf(Long.MAX_VALUE);
+        long[] narrowLowers = new long[merged.size()];
+        long[] narrowUppers = new long[merged.size()];
+        int count = 0;
+        ArrayList<BigInteger[]> wide = new ArrayList<>();
+        for (BigInteger[] range : merged) {
+            if (range[1].compareTo(longMax) <= 0) {
+                narrowLowers[count] = range[0].longValueExact();
+                narrowUppers[count] = range[1].longValueExact();
+                count++;
+            } else {
+                wide.add(range);
+            }
+        }
+        return new IdRanges(Arrays.copyOf(narrowLowers, count), Arrays.copyOf(narrowUppers, count),
+                wide.toArray(new BigInteger[0][]));
+    }
+
+    /** @return the next number, or -1 if it has more digits than a long can always hold */
+    private static long nextBound(ByteInput.Cursor cursor) {
+        while (cursor.peek() < '0' || cursor.peek() > '9') {
+            cursor.skip(1);
+        }
+        int start = cursor.position();
+        long value = cursor.nextLong();
+        return cursor.position() - start > 18 ? -1 : value;
+    }
+
     /**
      * Part 1: Sums all numbers in the input ranges where the number has even length
      * and the first half of its digits match the second half (e.g., 1212, 3434).
      *
-     * @param input ArrayList of input lines (expects a single line of comma-separated ranges)
+     * <p>
+     * These are the 2-fold repeats, summed in closed form by
+     * {@link InvalidIdCalculator#sumRepeats(int, long, long)} over the ranges in parallel
+     * batches, like part 2.
+     *
+     * @param parsed the parsed ranges
      * @return The sum as a String
      */
     @Override
-    public String part1(ArrayList<String> input) {
-        long sum = 0;
+    @Variant(part = 1, name = "parallel", description = "Sums the doubled patterns of the ranges in closed form")
+    public String part1(IdRanges parsed) {
+        ExactSum sum = RangeSums.sum(parsed.lowers(), parsed.uppers(), Day02::addRepeatedHalves, RangeSums.NO_SPLIT);
+        for (BigInteger[] range : parsed.wideRanges()) {
+            sum.add(InvalidIdCalculator.sumRepeats(2, range[0], range[1]));
+        }
+        return sum.toString();
+    }
 
-        // Separate the ranges by comma
-        String[] ranges = input.get(0).split(",");
+    private static void addRepeatedHalves(ExactSum sum, long lower, long upper) {
+        try {
+            sum.add(InvalidIdCalculator.sumRepeats(2, lower, upper));
+        } catch (ArithmeticException e) {
+            sum.add(InvalidIdCalculator.sumRepeats(2, BigInteger.valueOf(lower), BigInteger.valueOf(upper)));
+        }
+    }
 
-        for (String range : ranges) {
-            // Split each range into lower and upper bounds
-            String[] bounds = range.split("-");
-            long lower = Long.parseLong(bounds[0]); // AP CSA exception: must use long
-            long upper = Long.parseLong(bounds[1]);
+    /**
+     * Part 1 by testing every ID of the ranges in parallel chunks of
+     * {@value #LEAF_SPAN} IDs.
+     *
+     * @param parsed the parsed ranges
+     * @return The sum as a String
+     */
+    @Variant(part = 1, name = "parallel-scan", description = "Tests every ID of the ranges in parallel chunks")
+    public String part1Scan(IdRanges parsed) {
+        parsed.requireNarrow();
+        return RangeSums.sum(parsed.lowers(), parsed.uppers(), Day02::scanRepeatedHalves, LEAF_SPAN).toString();
+    }
+
+    private static void scanRepeatedHalves(ExactSum sum, long lower, long upper) {
+        for (long i = lower; i <= upper; i++) {
+            if (PatternMatcher.hasRepeatedHalf(i)) {
+                sum.add(i);
+            }
+            if (i == Long.MAX_VALUE) break;
+        }
+    }
+
+    /**
+     * Part 1 one range at a time, comparing digit strings, as first written.
+     *
+     * @param parsed the parsed ranges
+     * @return The sum as a String
+     */
+    @Variant(part = 1, name = "sequential", description = "Compares the digit-string halves of every ID, range by range")
+    public String part1Sequential(IdRanges parsed) {
+        parsed.requireNarrow();
+        ExactSum sum = new ExactSum();
+
+        for (int r = 0; r < parsed.size(); r++) {
+            long lower = parsed.lowers()[r];
+            long upper = parsed.uppers()[r];
 
             // Iterate through all numbers in the range
             for (long i = lower; i <= upper; i++) {
@@ -60,72 +257,108 @@ public class Day02 extends Day {
                 }
 
                 if (allMatch) {
-                    sum += i;
+                    sum.add(i);
                 }
             }
         }
 
-        return String.valueOf(sum);
+        return sum.toString();
     }
 
     /**
      * Part 2: Sums all numbers in the input ranges where the number consists of repeated patterns
      * of any length (e.g., 1212, 343434, 123123123).
+     * <p>
+     * The long ranges are summed in closed form in parallel batches; ranges beyond a long
+     * are added afterwards.
      *
-     * @param input ArrayList of input lines (expects a single line of comma-separated ranges)
+     * @param parsed the parsed ranges
      * @return The sum as a String
      */
     @Override
-    public String part2(ArrayList<String> input) {
-        long sum = 0;
+    @Variant(part = 2, name = "parallel", description = "Closed-form sums over the ranges in parallel batches")
+    public String part2(IdRanges parsed) {
+        ExactSum sum = RangeSums.sum(parsed.lowers(), parsed.uppers(), Day02::addInvalidIds, RangeSums.NO_SPLIT);
+        for (BigInteger[] range : parsed.wideRanges()) {
+            sum.add(InvalidIdCalculator.sumInvalidIds(range[0], range[1]));
+        }
+        return sum.toString();
+    }
 
-        // Separate the ranges by comma
-        String[] ranges = input.get(0).split(",");
+    /**
+     * Part 2 one range at a time in closed form.
+     * <p>
+     * Ranges are summed with long arithmetic; a range whose sum overflows, and every range
+     * beyond a long, goes through the BigInteger path instead, and the running total
+     * widens only if it has to.
+     *
+     * @param parsed the parsed ranges
+     * @return The sum as a String
+     */
+    @Variant(part = 2, name = "closed-form", description = "Sums the patterned numbers as arithmetic series with inclusion-exclusion")
+    public String part2ClosedForm(IdRanges parsed) {
+        ExactSum sum = new ExactSum();
 
-        for (String range : ranges) {
-            // Split each range into lower and upper bounds
-            String[] bounds = range.split("-");
-            long lower = Long.parseLong(bounds[0]); // AP CSA exception: must use long
-            long upper = Long.parseLong(bounds[1]);
+        for (int r = 0; r < parsed.size(); r++) {
+            addInvalidIds(sum, parsed.lowers()[r], parsed.uppers()[r]);
+        }
+        for (BigInteger[] range : parsed.wideRanges()) {
+            sum.add(InvalidIdCalculator.sumInvalidIds(range[0], range[1]));
+        }
 
-            sum += InvalidIdCalculator.sumInvalidIds(lower, upper);
+        return sum.toString();
+    }
 
-            // Iterate through all numbers in the range
-            // for (long i = lower; i <= upper; i++) {
-            //     if (PatternMatcher.hasRepeatingPattern(i)) {
-            //         sum += i;
-            //         continue; // Only count each number once
-            //     }
-                // String s = String.valueOf(i);
-                // int l = s.length();
-
-                // // Try all possible pattern lengths
-                // for (int patternLength = 1; patternLength <= l / 2; patternLength++) {
-                //     // Only consider pattern lengths that divide the string evenly
-                //     if (l % patternLength != 0) {
-                //         continue;
-                //     }
-
-                //     String pattern = s.substring(0, patternLength);
-                //     boolean allMatch = true;
-
-                //     // Check if the pattern repeats throughout the string
-                //     for (int j = 1; j < l / patternLength; j++) {
-                //         if (!pattern.equals(s.substring(j * patternLength, (j + 1) * patternLength))) {
-                //             allMatch = false;
-                //             break;
-                //         }
-                //     }
-
-                //     // Add and break if a repeated pattern is found
-                //     if (allMatch) {
-                //         sum += i;
-                //         break; // Only count each number once
-                //     }
-                // }
-            // }
-        }
-
-        return String.valueOf(sum);
+    private static void addInvalidIds(ExactSum sum, long lower, long upper) {
+        try {
+            sum.add(InvalidIdCalculator.sumInvalidIds(lower, upper));
+        } catch (ArithmeticException e) {
+            sum.add(InvalidIdCalculator.sumInvalidIds(BigInteger.valueOf(lower), BigInteger.valueOf(upper)));
+        }
+    }
+
+    /**
+     * Part 2 by generating every patterned number inside each range and deduplicating
+     * them, as first written.
+     *
+     * @param parsed the parsed ranges
+     * @return The sum as a String
+     */
+    @Variant(part = 2, name = "generator", description = "Generates only the patterned numbers inside each range")
+    public String part2Generator(IdRanges parsed) {
+        parsed.requireNarrow();
+        ExactSum sum = new ExactSum();
+
+        for (int r = 0; r < parsed.size(); r++) {
+            sum.add(InvalidIdCalculator.sumInvalidIdsByEnumeration(parsed.lowers()[r], parsed.uppers()[r]));
+        }
+
+        return sum.toString();
+    }
+
+    /**
+     * Part 2 by brute force: tests every number in every range with
+     * {@link PatternMatcher#hasRepeatingPattern(long)}. Linear in the width of the ranges,
+     * so it is only practical for small inputs, but it makes a handy cross-check.
+     *
+     * @param parsed the parsed ranges
+     * @return The sum as a String
+     */
+    @Variant(part = 2, name = "brute-force", description = "Tests every number in each range")
+    public String part2BruteForce(IdRanges parsed) {
+        parsed.requireNarrow();
+        CancellationToken token = CancellationToken.current();
+        ExactSum sum = new ExactSum();
+
+        for (int r = 0; r < parsed.size(); r++) {
+            for (long i = parsed.lowers()[r]; i <= parsed.uppers()[r]; i++) {
+                if ((i & 0xFFFF) == 0) token.checkpoint();
+                if (PatternMatcher.hasRepeatingPattern(i)) {
+                    sum.add(i);
+                }
+            }
+        }
+
+        return sum.toString();
     }
 }
@@ -1,27 +1,70 @@
 package aoc2025.solutions;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 
-public class Day03 extends Day {
+@DayInfo(day = 3)
+public class Day03 extends Day<ByteInput> {
     public Day03() { super(3); }
 
+    /**
+     * The banks stay as raw bytes; both parts read digits straight from them.
+     */
     @Override
-    public String part1(ArrayList<String> input) {
+    public ByteInput parse(ByteInput input) {
+        return input;
+    }
+
+    @Override
+    public ByteInput parse(ArrayList<String> input) {
+        return ByteInput.fromLines(input);
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
+
+    @Override
+    public String streamPart1(Iterator<String> banks) {
+        int joltage = 0;
+        while (banks.hasNext()) {
+            int j = Bank.maxJoltage(banks.next());
+            if (Trace.DEBUG) Trace.log("Joltage: %d", j);
+            joltage += j;
+        }
+        return String.valueOf(joltage);
+    }
+
+    @Override
+    public String streamPart2(Iterator<String> banks) {
+        long joltage = 0;
+        while (banks.hasNext()) {
+            long j = Bank.maxJoltage(banks.next(), 12);
+            if (Trace.DEBUG) Trace.log("Joltage: %d", j);
+            joltage += j;
+        }
+        return String.valueOf(joltage);
+    }
+
+    @Override
+    public String part1(ByteInput input) {
         int joltage = 0;
-        for (String bank : input) {
-            int j = Bank.maxJoltage(bank);
-            System.out.println(j);
+        for (int line = 0; line < input.lineCount(); line++) {
+            int j = Bank.maxJoltage(input, line);
+            if (Trace.DEBUG) Trace.log("Joltage: %d", j);
             joltage += j;
         }
         return String.valueOf(joltage);
     }
 
     @Override
-    public String part2(ArrayList<String> input) {
+    public String part2(ByteInput input) {
         long joltage = 0;
-        for (String bank : input) {
-            long j = Bank.maxJoltage(bank, 12);
-            System.out.println(j);
+        int[] selected = new int[12];
+        for (int line = 0; line < input.lineCount(); line++) {
+            long j = Bank.maxJoltage(input, line, selected);
+            if (Trace.DEBUG) Trace.log("Joltage: %d", j);
             joltage += j;
         }
         return String.valueOf(joltage);
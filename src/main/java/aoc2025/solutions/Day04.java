@@ -3,15 +3,22 @@ package aoc2025.solutions;
 import java.util.ArrayList;
 
 
-public class Day04 extends Day {
+@DayInfo(day = 4)
+public class Day04 extends Day<int[][]> {
     public Day04() { super(4); }
 
+    /**
+     * Builds the padded warehouse grid once; 1 marks a roll of paper.
+     */
     @Override
-    public String part1(ArrayList<String> input) {
-        int count = 0;
-        int width = input.get(0).length();
+    public int[][] parse(ArrayList<String> input) {
+        return getRowNumber(input, input.get(0).length());
+    }
 
-        int[][] warehouse = getRowNumber(input, width);
+    @Override
+    public String part1(int[][] warehouse) {
+        int count = 0;
+        int width = warehouse.length - 2;
 
         for (int rowNumber = 1; rowNumber <= width; rowNumber++) {
             for (int colNumber = 1; colNumber <= width; colNumber++) {
@@ -45,11 +52,15 @@ public class Day04 extends Day {
     }
 
     @Override
-    public String part2(ArrayList<String> input) {
+    public String part2(int[][] parsedWarehouse) {
         int count = 0;
-        int width = input.get(0).length();
+        int width = parsedWarehouse.length - 2;
 
-        int[][] warehouse = getRowNumber(input, width);
+        // Rolls get removed below, so work on a copy and leave the parsed grid intact
+        int[][] warehouse = new int[parsedWarehouse.length][];
+        for (int rowNumber = 0; rowNumber < parsedWarehouse.length; rowNumber++) {
+            warehouse[rowNumber] = parsedWarehouse[rowNumber].clone();
+        }
 
         boolean rollsRemoved = true;
         while (rollsRemoved) {
@@ -1,18 +1,49 @@
 package aoc2025.solutions;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 
-public class Day05 extends Day {
+@DayInfo(day = 5)
+public class Day05 extends Day<ArrayList<String>> {
     public Day05() { super(5); }
 
+    @Override
+    protected List<Class<?>> solverClasses() {
+        return List.of(getClass(), Range.class, SmartIngredientList.class);
+    }
+
+    /**
+     * Part 1 reads ranges and IDs, part 2 only the ranges; both stream the lines as-is.
+     */
+    @Override
+    public ArrayList<String> parse(ArrayList<String> input) {
+        return input;
+    }
+
     @Override
     public String part1(ArrayList<String> input) {
+        return streamPart1(input.iterator());
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
+
+    /**
+     * Only the range block is kept in memory; the ingredient IDs after it are checked
+     * as they are read, so the ID list can be arbitrarily long.
+     */
+    @Override
+    public String streamPart1(Iterator<String> lines) {
         boolean rangesDone = false;
         ArrayList<Range> ranges = new ArrayList<>();
-        int numberFresh = 0;
+        long numberFresh = 0;
 
-        for (String line : input) {
+        while (lines.hasNext()) {
+            String line = lines.next();
             if (line.equals("")) {
                 rangesDone = true;
                 continue;
@@ -41,10 +72,16 @@ public class Day05 extends Day {
 
     @Override
     public String part2(ArrayList<String> input) {
+        return streamPart2(input.iterator());
+    }
+
+    @Override
+    public String streamPart2(Iterator<String> lines) {
         SmartIngredientList ranges = new SmartIngredientList();
         long numberIngredients = 0;
 
-        for (String line : input) {
+        while (lines.hasNext()) {
+            String line = lines.next();
             if (line.equals("")) {
                 break;
             }
@@ -1,6 +1,8 @@
 package aoc2025.solutions;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Scanner;
 // import java.util.Arrays;
 // import java.util.stream.Collectors;
@@ -12,7 +14,8 @@ import java.util.Scanner;
  * Part 1: Numbers read left-to-right (normal reading order)
  * Part 2: Numbers read right-to-left within each column (cephalopod reading order)
  */
-public class Day06 extends Day {
+@DayInfo(day = 6)
+public class Day06 extends Day<ArrayList<String>> {
     private static final String MULTIPLY = "*";
     private static final String ADD = "+";
     
@@ -20,6 +23,15 @@ public class Day06 extends Day {
         super(6);
     }
 
+    /**
+     * The two parts read the worksheet in different directions, so there is no common
+     * model beyond the raw rows.
+     */
+    @Override
+    public ArrayList<String> parse(ArrayList<String> input) {
+        return input;
+    }
+
     /**
      * Part 1: Solve math problems arranged in columns (left-to-right reading)
      * 
@@ -187,6 +199,128 @@ public class Day06 extends Day {
         return String.valueOf(grandTotal);
     }
 
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
+
+    /**
+     * Streaming form of Part 1: evaluates every column in one pass, top to bottom.
+     *
+     * <p>The operator row comes last, so each problem keeps both a running sum and a
+     * running product and picks one when the operators arrive. Memory is two longs per
+     * problem, independent of the number of rows.
+     *
+     * @param lines the worksheet rows, read lazily
+     * @return The grand total (sum of all problem results)
+     */
+    @Override
+    public String streamPart1(Iterator<String> lines) {
+        long[] sums = new long[16];
+        long[] products = new long[16];
+        Arrays.fill(products, 1);
+
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (isOperatorLine(line)) {
+                long grandTotal = 0;
+                int problemIndex = 0;
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (c == '*') {
+                        grandTotal += products[problemIndex++];
+                    } else if (c == '+') {
+                        grandTotal += sums[problemIndex++];
+                    }
+                }
+                return String.valueOf(grandTotal);
+            }
+
+            int problemIndex = 0;
+            int i = 0;
+            while (i < line.length()) {
+                if (line.charAt(i) == ' ') {
+                    i++;
+                    continue;
+                }
+                long number = 0;
+                while (i < line.length() && line.charAt(i) != ' ') {
+                    number = number * 10 + (line.charAt(i) - '0');
+                    i++;
+                }
+                if (problemIndex == sums.length) {
+                    sums = Arrays.copyOf(sums, sums.length * 2);
+                    products = Arrays.copyOf(products, products.length * 2);
+                    Arrays.fill(products, problemIndex, products.length, 1);
+                }
+                sums[problemIndex] += number;
+                products[problemIndex] *= number;
+                problemIndex++;
+            }
+        }
+        return "0";
+    }
+
+    /**
+     * Streaming form of Part 2: builds every vertical number in one pass, top to bottom.
+     *
+     * <p>Each character column accumulates its digits as rows arrive. When the operator
+     * row is reached, operator positions mark where each problem starts and the column
+     * numbers in that span are combined. Memory is one long per character column.
+     *
+     * @param lines the worksheet rows, read lazily
+     * @return The grand total (sum of all problem results)
+     */
+    @Override
+    public String streamPart2(Iterator<String> lines) {
+        long[] columnNumbers = new long[64];
+        boolean[] hasDigit = new boolean[64];
+
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (isOperatorLine(line)) {
+                long grandTotal = 0;
+                int columnCount = columnNumbers.length;
+                int problemStart = findNextOperatorIndex(line, 0);
+                while (problemStart != -1) {
+                    int nextStart = findNextOperatorIndex(line, problemStart + 1);
+                    int problemEnd = (nextStart == -1) ? columnCount : nextStart;
+                    boolean multiply = line.charAt(problemStart) == '*';
+                    long result = multiply ? 1 : 0;
+                    for (int column = problemStart; column < problemEnd && column < columnCount; column++) {
+                        if (!hasDigit[column]) continue;
+                        result = multiply ? result * columnNumbers[column] : result + columnNumbers[column];
+                    }
+                    grandTotal += result;
+                    problemStart = nextStart;
+                }
+                return String.valueOf(grandTotal);
+            }
+
+            if (line.length() > columnNumbers.length) {
+                int newLength = Math.max(line.length(), columnNumbers.length * 2);
+                columnNumbers = Arrays.copyOf(columnNumbers, newLength);
+                hasDigit = Arrays.copyOf(hasDigit, newLength);
+            }
+            for (int column = 0; column < line.length(); column++) {
+                char c = line.charAt(column);
+                if (c == ' ') continue;
+                columnNumbers[column] = columnNumbers[column] * 10 + (c - '0');
+                hasDigit[column] = true;
+            }
+        }
+        return "0";
+    }
+
+    private static boolean isOperatorLine(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '*' || c == '+') return true;
+            if (c != ' ') return false;
+        }
+        return false;
+    }
+
     /**
      * Helper method to find the next operator position in a line.
      * 
@@ -25,13 +25,16 @@ import java.util.Objects;
  *   <li><b>Bottom-Up DP (Part 2):</b> Classic DP table approach (fastest)</li>
  * </ol>
  * 
- * <p>Performance hierarchy: Bottom-Up DP (92µs) > Memoization (525µs) > Stack (881µs)
+ * <p>Performance hierarchy: Bottom-Up DP > Memoization > Stack. Each approach is a
+ * {@link Variant}, so {@code Main 7 --bench --variant 2=bottom-up} times one of them and
+ * {@code Day07Benchmark} in the JMH profile ({@code mvn -Pjmh package}) compares them all.
  * 
  * @author scerruti
  * @version 1.0
  * @since 2025-12-07
  */
-public class Day07 extends Day {
+@DayInfo(day = 7)
+public class Day07 extends Day<Day07.TachyonField> {
     /** Character constant representing an empty cell in the tachyon field */
     private static final int EMPTY = '.';
     
@@ -49,70 +52,38 @@ public class Day07 extends Day {
     }
 
     /**
-     * Solves Part 1: Count unique splitters encountered by the beam.
-     * 
-     * <p>This method delegates to either the recursive or iterative implementation,
-     * with optional performance benchmarking enabled by default.
-     * 
+     * Converts the field to an int grid once; every algorithm below shares it read-only.
+     *
      * @param input the tachyon field as lines of text
-     * @return the number of unique splitters encountered
+     * @return the parsed field
      */
     @Override
-    public String part1(ArrayList<String> input) {
-        boolean enableTiming = true;
-        
-        if (enableTiming) {
-            return part1WithTiming(input);
-        }
-        
-        // Set to true to see the naive recursive solution
-        boolean useRecursive = false;
-        
-        if (useRecursive) {
-            return part1Recursive(input);
-        } else {
-            return part1Iterative(input);
+    public TachyonField parse(ArrayList<String> input) {
+        int tachyonFieldWidth = input.get(0).length();
+        int tachyonFieldLength = input.size();
+        int[][] tachyonField = new int[tachyonFieldLength][tachyonFieldWidth];
+
+        // Convert input strings to 2D int array for efficient access
+        for (int row = 0; row < tachyonFieldLength; row++) {
+            for (int col = 0; col < tachyonFieldWidth; col++) {
+                tachyonField[row][col] = input.get(row).charAt(col);
+            }
         }
+        return new TachyonField(tachyonField, input.get(0).indexOf("S"));
     }
 
     /**
-     * Benchmarks both iterative and recursive Part 1 implementations.
+     * Solves Part 1: Count unique splitters encountered by the beam.
      * 
-     * <p>Runs 1000 iterations of each approach with warmup to measure performance.
-     * Demonstrates that iterative approach is ~2.2x faster than recursive due to
-     * call stack overhead.
+     * <p>Runs the iterative sweep; select "recursive" to run {@link #part1Recursive} instead.
      * 
-     * @param input the tachyon field as lines of text
-     * @return the result from the iterative implementation
+     * @param field the parsed tachyon field
+     * @return the number of unique splitters encountered
      */
-    private String part1WithTiming(ArrayList<String> input) {
-        int iterations = 1000;
-        
-        // Warmup run prevents JIT compilation from skewing results
-        // Then time iterative approach
-        String result1 = part1Iterative(input);
-        long start = System.nanoTime();
-        for (int i = 0; i < iterations; i++) {
-            part1Iterative(input);
-        }
-        long iterativeTime = System.nanoTime() - start;
-        
-        // Warmup and time recursive
-        String result2 = part1Recursive(input);
-        start = System.nanoTime();
-        for (int i = 0; i < iterations; i++) {
-            part1Recursive(input);
-        }
-        long recursiveTime = System.nanoTime() - start;
-        
-        System.out.printf("Part 1 Timing (%d iterations):%n", iterations);
-        System.out.printf("  Iterative: %.3f ms (avg: %.3f µs)%n", 
-            iterativeTime / 1_000_000.0, iterativeTime / (iterations * 1000.0));
-        System.out.printf("  Recursive: %.3f ms (avg: %.3f µs)%n", 
-            recursiveTime / 1_000_000.0, recursiveTime / (iterations * 1000.0));
-        System.out.printf("  Speedup: %.2fx%n", (double)recursiveTime / iterativeTime);
-        
-        return result1;
+    @Override
+    @Variant(part = 1, name = "iterative", description = "Row-by-row sweep of the active beam columns")
+    public String part1(TachyonField field) {
+        return part1Iterative(field);
     }
 
     /**
@@ -127,21 +98,15 @@ public class Day07 extends Day {
      * <p><b>Time Complexity:</b> O(rows × cols) in worst case
      * <p><b>Space Complexity:</b> O(rows × cols) for recursion stack and sets
      * 
-     * @param input the tachyon field as lines of text
+     * @param field the parsed tachyon field
      * @return the number of unique splitters encountered
      */
-    private String part1Recursive(ArrayList<String> input) {
-        int tachyonFieldWidth = input.get(0).length();
-        int tachyonFieldLength = input.size();
-        int[][] tachyonField = new int[tachyonFieldLength][tachyonFieldWidth];
-        int start = input.get(0).indexOf("S");
-
-        // Convert input strings to 2D int array for efficient access
-        for (int row = 0; row < tachyonFieldLength; row++) {
-            for (int col = 0; col < tachyonFieldWidth; col++) {
-                tachyonField[row][col] = input.get(row).charAt(col);
-            }
-        }
+    @Variant(part = 1, name = "recursive", description = "Depth-first search with visited sets")
+    public String part1Recursive(TachyonField field) {
+        int tachyonFieldWidth = field.width;
+        int tachyonFieldLength = field.length;
+        int[][] tachyonField = field.cells;
+        int start = field.start;
 
         // Track which splitters we've seen to avoid counting them multiple times
         HashSet<String> visitedSplitters = new HashSet<>();
@@ -216,20 +181,14 @@ public class Day07 extends Day {
      * <p><b>Space Complexity:</b> O(cols) for beam tracking
      * <p><b>Performance:</b> ~2.2x faster than recursive due to no call stack overhead
      * 
-     * @param input the tachyon field as lines of text
+     * @param field the parsed tachyon field
      * @return the number of splitters encountered
      */
-    private String part1Iterative(ArrayList<String> input) {
-        int tachyonFieldWidth = input.get(0).length();
-        int tachyonFieldLength = input.size();
-        int[][] tachyonField = new int[tachyonFieldLength][tachyonFieldWidth];
-        int start = input.get(0).indexOf("S");
-
-        for (int row = 0; row < tachyonFieldLength; row++) {
-            for (int col = 0; col < tachyonFieldWidth; col++) {
-                tachyonField[row][col] = input.get(row).charAt(col);
-            }
-        }
+    public String part1Iterative(TachyonField field) {
+        int tachyonFieldWidth = field.width;
+        int tachyonFieldLength = field.length;
+        int[][] tachyonField = field.cells;
+        int start = field.start;
 
         int row = 1;
         int splitCount = 0;
@@ -281,104 +240,20 @@ public class Day07 extends Day {
     /**
      * Solves Part 2: Count total paths from start to bottom.
      * 
-     * <p>This method demonstrates three different dynamic programming approaches:
+     * <p>Three dynamic programming approaches are available as variants:
      * <ol>
-     *   <li><b>Stack-based iterative with memoization:</b> Explicit stack, HashMap cache</li>
-     *   <li><b>Top-down recursive with memoization:</b> Call stack, HashMap cache</li>
-     *   <li><b>Bottom-up DP table:</b> Classic DP, 2D array (fastest)</li>
+     *   <li><b>stack:</b> explicit stack with HashMap memoization (the default)</li>
+     *   <li><b>memo:</b> top-down recursion with HashMap memoization</li>
+     *   <li><b>bottom-up:</b> classic DP table (fastest)</li>
      * </ol>
      * 
-     * <p>With timing enabled (default), all three methods are benchmarked and
-     * validated to produce identical results.
-     * 
-     * @param input the tachyon field as lines of text
+     * @param field the parsed tachyon field
      * @return the total number of paths from start to bottom
      */
     @Override
-    public String part2(ArrayList<String> input) {
-        boolean enableTiming = true;
-        
-        if (enableTiming) {
-            return part2WithTiming(input);
-        }
-        
-        // Set to true to see the memoized recursive solution
-        boolean useRecursive = false;
-        
-        if (useRecursive) {
-            return part2Recursive(input);
-        } else {
-            return part2Iterative(input);
-        }
-    }
-
-    /**
-     * Benchmarks all three Part 2 implementations and validates consistency.
-     * 
-     * <p>Runs 1000 iterations of each approach:
-     * <ol>
-     *   <li>Stack-based iterative (typically ~881 µs)</li>
-     *   <li>Top-down memoization (typically ~525 µs, 1.7x faster)</li>
-     *   <li>Bottom-up DP table (typically ~92 µs, 9.6x faster)</li>
-     * </ol>
-     * 
-     * <p>Validates that all three methods produce identical results before
-     * reporting performance metrics.
-     * 
-     * @param input the tachyon field as lines of text
-     * @return the result from the stack-based implementation
-     */
-    private String part2WithTiming(ArrayList<String> input) {
-        int iterations = 1000;
-        
-        // Warmup runs prevent JIT compilation from skewing results
-        // Time stack-based iterative approach
-        String result1 = part2Iterative(input);
-        long start = System.nanoTime();
-        for (int i = 0; i < iterations; i++) {
-            part2Iterative(input);
-        }
-        long iterativeTime = System.nanoTime() - start;
-        
-        // Warmup and time recursive (top-down memoization)
-        String result2 = part2Recursive(input);
-        start = System.nanoTime();
-        for (int i = 0; i < iterations; i++) {
-            part2Recursive(input);
-        }
-        long recursiveTime = System.nanoTime() - start;
-        
-        // Warmup and time bottom-up DP
-        String result3 = part2BottomUp(input);
-        start = System.nanoTime();
-        for (int i = 0; i < iterations; i++) {
-            part2BottomUp(input);
-        }
-        long bottomUpTime = System.nanoTime() - start;
-        
-        // Verify all three methods produce the same answer (critical validation)
-        // If they don't match, there's a bug in one of the implementations
-        if (!result1.equals(result2) || !result1.equals(result3)) {
-            System.err.println("ERROR: Solutions don't match!");
-            System.err.println("  Stack-based: " + result1);
-            System.err.println("  Memoization: " + result2);
-            System.err.println("  Bottom-Up:   " + result3);
-            return "ERROR: Inconsistent results";
-        }
-        
-        System.out.printf("Part 2 Timing (%d iterations):%n", iterations);
-        System.out.printf("  Iterative (Stack): %.3f ms (avg: %.3f µs)%n", 
-            iterativeTime / 1_000_000.0, iterativeTime / (iterations * 1000.0));
-        System.out.printf("  Recursive (Memo):  %.3f ms (avg: %.3f µs)%n", 
-            recursiveTime / 1_000_000.0, recursiveTime / (iterations * 1000.0));
-        System.out.printf("  Bottom-Up DP:      %.3f ms (avg: %.3f µs)%n", 
-            bottomUpTime / 1_000_000.0, bottomUpTime / (iterations * 1000.0));
-        System.out.printf("  Speedup (Stack vs Memo): %.2fx%n", (double)iterativeTime / recursiveTime);
-        System.out.printf("  Speedup (Stack vs DP):   %.2fx%n", (double)iterativeTime / bottomUpTime);
-        System.out.printf("  Speedup (Memo vs DP):    %.2fx%n", (double)recursiveTime / bottomUpTime);
-        System.out.printf("  All methods agree: %s%n", result1);
-        
-        return result1;
+    @Variant(part = 2, name = "stack", description = "Explicit stack with memoization")
+    public String part2(TachyonField field) {
+        return part2Iterative(field);
     }
 
     /**
@@ -392,23 +267,18 @@ public class Day07 extends Day {
      * 
      * <p><b>Time Complexity:</b> O(rows × cols) with memoization
      * <p><b>Space Complexity:</b> O(rows × cols) for cache + O(rows) recursion depth
-     * <p><b>Performance:</b> Middle ground (~525 µs), benefits from memoization
+     * <p><b>Performance:</b> Middle ground, benefits from memoization
      * but suffers from HashMap hashing overhead and call stack depth
      * 
-     * @param input the tachyon field as lines of text
+     * @param field the parsed tachyon field
      * @return the total number of paths from start to bottom
      */
-    private String part2Recursive(ArrayList<String> input) {
-        int tachyonFieldWidth = input.get(0).length();
-        int tachyonFieldLength = input.size();
-        int[][] tachyonField = new int[tachyonFieldLength][tachyonFieldWidth];
-        int start = input.get(0).indexOf("S");
-
-        for (int row = 0; row < tachyonFieldLength; row++) {
-            for (int col = 0; col < tachyonFieldWidth; col++) {
-                tachyonField[row][col] = input.get(row).charAt(col);
-            }
-        }
+    @Variant(part = 2, name = "memo", description = "Top-down recursion with memoization")
+    public String part2Recursive(TachyonField field) {
+        int tachyonFieldWidth = field.width;
+        int tachyonFieldLength = field.length;
+        int[][] tachyonField = field.cells;
+        int start = field.start;
 
         HashMap<String, Long> cache = new HashMap<>();
         long result = countPathsRecursive(tachyonField, 0, start, cache);
@@ -479,23 +349,17 @@ public class Day07 extends Day {
      * 
      * <p><b>Time Complexity:</b> O(rows × cols) with memoization
      * <p><b>Space Complexity:</b> O(rows × cols) for cache + stack
-     * <p><b>Performance:</b> Slowest (~881 µs) due to HashMap overhead,
+     * <p><b>Performance:</b> Slowest due to HashMap overhead,
      * object allocation for Point, and stack management
      * 
-     * @param input the tachyon field as lines of text
+     * @param field the parsed tachyon field
      * @return the total number of paths from start to bottom
      */
-    private String part2Iterative(ArrayList<String> input) {
-        int tachyonFieldWidth = input.get(0).length();
-        int tachyonFieldLength = input.size();
-        int[][] tachyonField = new int[tachyonFieldLength][tachyonFieldWidth];
-        int start = input.get(0).indexOf("S");
-
-        for (int row = 0; row < tachyonFieldLength; row++) {
-            for (int col = 0; col < tachyonFieldWidth; col++) {
-                tachyonField[row][col] = input.get(row).charAt(col);
-            }
-        }
+    public String part2Iterative(TachyonField field) {
+        int tachyonFieldWidth = field.width;
+        int tachyonFieldLength = field.length;
+        int[][] tachyonField = field.cells;
+        int start = field.start;
 
         // Stack of positions to process (last element is top of stack)
         ArrayList<Point> particleLocations = new ArrayList<>();
@@ -573,7 +437,7 @@ public class Day07 extends Day {
      * 
      * <p><b>Time Complexity:</b> O(rows × cols)
      * <p><b>Space Complexity:</b> O(rows × cols) for DP table
-     * <p><b>Performance:</b> Fastest (~92 µs) due to:
+     * <p><b>Performance:</b> Fastest due to:
      * <ul>
      *   <li>Direct array access (no hashing)</li>
      *   <li>Cache-friendly sequential memory access</li>
@@ -581,20 +445,15 @@ public class Day07 extends Day {
      *   <li>Primitive long array (no object allocation)</li>
      * </ul>
      * 
-     * @param input the tachyon field as lines of text
+     * @param field the parsed tachyon field
      * @return the total number of paths from start to bottom
      */
-    private String part2BottomUp(ArrayList<String> input) {
-        int tachyonFieldWidth = input.get(0).length();
-        int tachyonFieldLength = input.size();
-        int[][] tachyonField = new int[tachyonFieldLength][tachyonFieldWidth];
-        int start = input.get(0).indexOf("S");
-
-        for (int row = 0; row < tachyonFieldLength; row++) {
-            for (int col = 0; col < tachyonFieldWidth; col++) {
-                tachyonField[row][col] = input.get(row).charAt(col);
-            }
-        }
+    @Variant(part = 2, name = "bottom-up", description = "Bottom-up DP table")
+    public String part2BottomUp(TachyonField field) {
+        int tachyonFieldWidth = field.width;
+        int tachyonFieldLength = field.length;
+        int[][] tachyonField = field.cells;
+        int start = field.start;
 
         // Create DP table: dp[row][col] = number of paths from (row,col) to bottom
         long[][] dp = new long[tachyonFieldLength][tachyonFieldWidth];
@@ -638,6 +497,34 @@ public class Day07 extends Day {
         return String.valueOf(dp[0][start]);
     }
 
+    /**
+     * The tachyon field as an int grid (one character code per cell) plus the
+     * column of the start cell 'S' in the top row.
+     */
+    public static class TachyonField {
+        /** Cell characters, indexed [row][col] */
+        final int[][] cells;
+        /** Column of 'S' in row 0 */
+        final int start;
+        /** Number of columns */
+        final int width;
+        /** Number of rows */
+        final int length;
+
+        /**
+         * Constructs a field from its cells.
+         *
+         * @param cells the cell characters, indexed [row][col]
+         * @param start the column of 'S' in row 0
+         */
+        public TachyonField(int[][] cells, int start) {
+            this.cells = cells;
+            this.start = start;
+            this.length = cells.length;
+            this.width = cells[0].length;
+        }
+    }
+
     /**
      * Inner class representing a 2D coordinate in the tachyon field.
      * 
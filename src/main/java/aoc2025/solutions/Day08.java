@@ -6,23 +6,19 @@ import java.util.TreeMap;
 import java.util.Set;
 
 
-public class Day08 extends Day {
-    private TreeMap<Long, ArrayList<ArrayList<JunctionBox>>> distances;
-    private ArrayList<HashSet<JunctionBox>> circuits;
+@DayInfo(day = 8)
+public class Day08 extends Day<Day08.Playground> {
 
     public Day08() { super(8); }
 
+    /**
+     * Reads the junction boxes and groups every pair of boxes by squared distance.
+     * Both parts connect pairs in this order, so it is built once here.
+     */
     @Override
-    public String part1(ArrayList<String> input) {
-        // Use 10 connections for sample input, 1000 for real input
-        int connectionLimit = (input.size() <= 20) ? 10 : 1000;
-        String result = bruteForcePart1(input, connectionLimit);
-        return result;
-    }
-
-    private String bruteForcePart1(ArrayList<String> input, int connectionLimit) {
+    public Playground parse(ArrayList<String> input) {
         ArrayList<JunctionBox> boxes = new ArrayList<>();
-        distances = new TreeMap<>();
+        TreeMap<Long, ArrayList<ArrayList<JunctionBox>>> distances = new TreeMap<>();
 
         for (String line : input) {
             boxes.add(new JunctionBox(line));
@@ -47,16 +43,28 @@ public class Day08 extends Day {
                 }
             }
         }
+        return new Playground(boxes, distances);
+    }
+
+    @Override
+    public String part1(Playground playground) {
+        // Use 10 connections for sample input, 1000 for real input
+        int connectionLimit = (playground.boxes.size() <= 20) ? 10 : 1000;
+        String result = bruteForcePart1(playground, connectionLimit);
+        return result;
+    }
 
+    private String bruteForcePart1(Playground playground, int connectionLimit) {
+        TreeMap<Long, ArrayList<ArrayList<JunctionBox>>> distances = playground.distances;
         Set<Long> keys = distances.keySet();
-        circuits = new ArrayList<>();
+        ArrayList<HashSet<JunctionBox>> circuits = new ArrayList<>();
         int connectionCount = 0;
         boolean connectionsMade = false;
         HashSet<Long> usedKeys = new HashSet<>();
 
         for (Long distance : keys) {
             ArrayList<ArrayList<JunctionBox>> pairsList = distances.get(distance);
-            System.out.println("Distance: " + distance + ", pairs: " + pairsList.size());
+            if (Trace.DEBUG) Trace.log("Distance: %d, pairs: %d", distance, pairsList.size());
             usedKeys.add(distance);
             for (ArrayList<JunctionBox> pairs : pairsList) {
                 ArrayList<HashSet<JunctionBox>> matchingCircuits = new ArrayList<>();
@@ -67,22 +75,22 @@ public class Day08 extends Day {
                 }
                 switch (matchingCircuits.size()) {
                     case 0:
-                        System.out.println("New circuit");
+                        if (Trace.DEBUG) Trace.log("New circuit");
                         HashSet<JunctionBox> newCircuit = new HashSet<>(pairs);
                         circuits.add(newCircuit);
                         break;
                     case 1:
-                        System.out.println("Extend circuit");
+                        if (Trace.DEBUG) Trace.log("Extend circuit");
                         matchingCircuits.get(0).addAll(pairs);
                         break;
                     case 2:
-                        System.out.println("Merge circuits");
+                        if (Trace.DEBUG) Trace.log("Merge circuits");
                         matchingCircuits.get(0).addAll(pairs);
                         matchingCircuits.get(0).addAll(matchingCircuits.get(1));
                         circuits.remove(matchingCircuits.get(1));
                         break;
                     default:
-                        System.out.println("What?");
+                        if (Trace.DEBUG) Trace.log("What?");
                         break;
                 }
 
@@ -114,16 +122,20 @@ public class Day08 extends Day {
     }
 
     @Override
-    public String part2(ArrayList<String> input) {
-        String result = bruteForcePart2(input);
+    public String part2(Playground playground) {
+        String result = bruteForcePart2(playground);
         return result;
     }
 
-    private String bruteForcePart2(ArrayList<String> input) {
-        ArrayList<JunctionBox> boxes = new ArrayList<>();
-        for (String line : input) {
-            boxes.add(new JunctionBox(line));
-        }
+    /**
+     * Connects pairs in distance order, starting from no circuits, until a single
+     * circuit holds every box. Part 1's connections are simply the first ones
+     * made here, so part 2 does not depend on part 1 having run.
+     */
+    private String bruteForcePart2(Playground playground) {
+        ArrayList<JunctionBox> boxes = playground.boxes;
+        TreeMap<Long, ArrayList<ArrayList<JunctionBox>>> distances = playground.distances;
+        ArrayList<HashSet<JunctionBox>> circuits = new ArrayList<>();
         Set<Long> keys = distances.keySet();
         long product = 0;
         boolean found = false;
@@ -131,7 +143,7 @@ public class Day08 extends Day {
         outer:
         for (Long distance : keys) {
             for (ArrayList<JunctionBox> pairs : distances.get(distance)) {
-                System.out.println("Testing: " + pairs.get(0) + "-" + pairs.get(1));
+                if (Trace.DEBUG) Trace.log("Testing: %s-%s", pairs.get(0), pairs.get(1));
                 ArrayList<HashSet<JunctionBox>> matchingCircuits = new ArrayList<>();
                 for (HashSet<JunctionBox> circuit : circuits) {
                     if (circuit.contains(pairs.get(0)) || circuit.contains(pairs.get(1))) {
@@ -140,28 +152,28 @@ public class Day08 extends Day {
                 }
                 switch (matchingCircuits.size()) {
                     case 0:
-                        System.out.println("New circuit");
+                        if (Trace.DEBUG) Trace.log("New circuit");
                         HashSet<JunctionBox> newCircuit = new HashSet<>(pairs);
                         circuits.add(newCircuit);
                         break;
                     case 1:
-                        System.out.println("Extend circuit");
+                        if (Trace.DEBUG) Trace.log("Extend circuit");
                         matchingCircuits.get(0).addAll(pairs);
                         break;
                     case 2:
-                        System.out.println("Merge circuits");
+                        if (Trace.DEBUG) Trace.log("Merge circuits");
                         matchingCircuits.get(0).addAll(pairs);
                         matchingCircuits.get(0).addAll(matchingCircuits.get(1));
                         circuits.remove(matchingCircuits.get(1));
                         break;
                     default:
-                        System.out.println("What?");
+                        if (Trace.DEBUG) Trace.log("What?");
                         break;
                 }
-                System.out.println("Circuit Count" + circuits.size());
+                if (Trace.DEBUG) Trace.log("Circuit Count: %d", circuits.size());
                 if (circuits.size() == 1 && circuits.get(0).size() == boxes.size() && !found) {
                     product = pairs.get(0).x * pairs.get(1).x;
-                    System.out.println("Final merge: " + pairs.get(0) + " " + pairs.get(1));
+                    if (Trace.INFO) Trace.log("Final merge: %s %s", pairs.get(0), pairs.get(1));
                     found = true;
                     break outer;
                 }
@@ -170,6 +182,20 @@ public class Day08 extends Day {
         return String.valueOf(product);
     }
 
+    /**
+     * The parsed boxes and all box pairs keyed by squared distance (ascending).
+     * Shared read-only by both parts.
+     */
+    public static class Playground {
+        final ArrayList<JunctionBox> boxes;
+        final TreeMap<Long, ArrayList<ArrayList<JunctionBox>>> distances;
+
+        public Playground(ArrayList<JunctionBox> boxes, TreeMap<Long, ArrayList<ArrayList<JunctionBox>>> distances) {
+            this.boxes = boxes;
+            this.distances = distances;
+        }
+    }
+
     public class JunctionBox {
                 public long getSquaredDistance(JunctionBox otherBox) {
                     return (long)(x - otherBox.x) * (x - otherBox.x)
@@ -1,18 +1,32 @@
 package aoc2025.solutions;
 
 import java.util.ArrayList;
+import java.util.List;
 
 
-public class Day09 extends Day {
+@DayInfo(day = 9)
+public class Day09 extends Day<ArrayList<Day09.Point>> {
     public Day09() { super(9); }
 
     @Override
-    public String part1(ArrayList<String> input) {
+    protected List<Class<?>> solverClasses() {
+        return List.of(getClass(), FloorModel.class);
+    }
+
+    /**
+     * Reads the red tile coordinates once for both parts.
+     */
+    @Override
+    public ArrayList<Point> parse(ArrayList<String> input) {
         ArrayList<Point> redTiles = new ArrayList<>();
         for (String line : input) {
             redTiles.add(new Point(line));
         }
+        return redTiles;
+    }
 
+    @Override
+    public String part1(ArrayList<Point> redTiles) {
         long maxArea = 0;
         for (int i = 0; i < redTiles.size() - 1; i++) {
             for (int j = i+1; j < redTiles.size(); j++) {
@@ -26,22 +40,19 @@ public class Day09 extends Day {
     }
 
     @Override
-    public String part2(ArrayList<String> input) {
-        ArrayList<Point> redTiles = new ArrayList<>();
+    public String part2(ArrayList<Point> redTiles) {
         int minX = Integer.MAX_VALUE;
         int maxX = 0;
         int minY = Integer.MAX_VALUE;
         int maxY = 0;
-        for (String line : input) {
-            Point point = new Point(line);
-            redTiles.add(point);
+        for (Point point : redTiles) {
             if (point.x > maxX) maxX = point.x;
             if (point.x < minX) minX = point.x;
             if (point.y > maxY) maxY = point.y;
             if (point.y < minY) minY = point.y;
         }
 
-        System.out.println("Number of red tiles: " + redTiles.size());
+        if (Trace.INFO) Trace.log("Number of red tiles: %d", redTiles.size());
 
         // Adjust points to 0-based coordinates
         // for (Point point : redTiles) {
@@ -93,8 +104,12 @@ public class Day09 extends Day {
         FloorModel floor = new FloorModel(maxX + 1, maxY + 1);
 
         // Draw green tiles between red tiles
+        CancellationToken token = CancellationToken.current();
         Point prev = redTiles.get(redTiles.size()-1);
+        int drawn = 0;
         for (Point point : redTiles) {
+            token.checkpoint();
+            token.progress("boundary edges drawn", drawn++, redTiles.size());
             // System.out.println("Adding tile at " + point.x + "," + point.y);
             floor.addTile(point.x, point.y);
             if (point.x == prev.x) {
@@ -126,17 +141,20 @@ public class Day09 extends Day {
             prev = point;
         }
 
-        System.out.println("Finished drawing boundary");
+        token.progress("boundary edges drawn", drawn, redTiles.size());
+        if (Trace.INFO) Trace.log("Finished drawing boundary");
 
         floor.fillInterior();
 
-        System.out.println("Finished filling interior");
+        if (Trace.INFO) Trace.log("Finished filling interior");
 
         // floor.printFloor();
 
         // Create list of pairs sorted by area descending
         ArrayList<int[]> pairs = new ArrayList<>();
         for (int i = 0; i < redTiles.size() - 1; i++) {
+            token.checkpoint();
+            token.progress("tiles paired", i, redTiles.size());
             for (int j = i + 1; j < redTiles.size(); j++) {
                 long area = redTiles.get(i).areaWith(redTiles.get(j));
                 pairs.add(new int[]{i, j, (int)area});  // Store indices and area
@@ -144,22 +162,24 @@ public class Day09 extends Day {
         }
         pairs.sort((a, b) -> Integer.compare(b[2], a[2]));  // Sort by area descending
 
-        System.out.println("Total pairs to check: " + pairs.size());
+        if (Trace.INFO) Trace.log("Total pairs to check: %d", pairs.size());
         long maxArea = 0;
         int checked = 0;
         for (int[] pair : pairs) {
+            token.checkpoint();
+            token.progress("pairs checked", checked, pairs.size());
             int i = pair[0];
             int j = pair[1];
             long area = redTiles.get(i).filledAreaWith(redTiles.get(j), floor);
             if (area > maxArea) {
                 maxArea = area;
-                System.out.println("Found new max area: " + maxArea + " after checking " + (checked + 1) + " pairs");
+                if (Trace.INFO) Trace.log("Found new max area: %d after checking %d pairs", maxArea, checked + 1);
                 // Since sorted descending, this is the largest possible filled area
                 break;  // No need to check smaller areas
             }
             checked++;
-            if (checked % 100 == 0) {
-                System.out.println("Checked " + checked + " pairs, current max area: " + maxArea);
+            if (Trace.DEBUG && checked % 100 == 0) {
+                Trace.log("Checked %d pairs, current max area: %d", checked, maxArea);
             }
         }
         return String.valueOf(maxArea);
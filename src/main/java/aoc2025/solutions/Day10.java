@@ -12,31 +12,31 @@ import org.ojalgo.optimisation.Optimisation;
 import org.ojalgo.optimisation.Variable;
 
 
-public class Day10 extends Day {
-    private Map<String, Integer> memo = new HashMap<>();
+@DayInfo(day = 10)
+public class Day10 extends Day<ArrayList<Day10.Machine>> {
 
     public Day10() { super(10); }
 
+    /**
+     * Parses every machine line once: light diagram, buttons and joltage targets.
+     */
     @Override
-    public String part1(ArrayList<String> input) {
+    public ArrayList<Machine> parse(ArrayList<String> input) {
+        ArrayList<Machine> machines = new ArrayList<>();
+        for (String line : input) {
+            machines.add(new Machine(line));
+        }
+        return machines;
+    }
+
+    @Override
+    public String part1(ArrayList<Machine> machines) {
         int result = 0;
 
         line: 
-        for (String line: input) {
-            String lights = line.substring(1, line.indexOf("]"));
-            boolean[] targetState = new boolean[lights.length()];
-            for (int i = 0; i < lights.length(); i++) {
-                targetState[i] = lights.substring(i, i+1).equals("#");
-            }
-
-
-            String[] buttonStrings = line.substring(
-                line.indexOf("]")+1, 
-                line.indexOf("{")).trim().split(" ");
-            Button[] buttons = new Button[buttonStrings.length];
-            for (int i = 0; i < buttons.length; i++) {
-                buttons[i] = new Button(buttonStrings[i]);
-            }
+        for (Machine machine : machines) {
+            boolean[] targetState = machine.targetState;
+            Button[] buttons = machine.buttons;
 
             // System.out.println(Arrays.toString(targetState));
             // System.out.println(Arrays.toString(buttons));
@@ -85,31 +85,22 @@ public class Day10 extends Day {
     }
 
     @Override
-    public String part2(ArrayList<String> input) {
+    @Variant(part = 2, name = "ilp", description = "Integer linear program per machine, solved with ojalgo")
+    public String part2(ArrayList<Machine> machines) {
         int result = 0;
 
-        for (String line: input) {
+        for (Machine machine : machines) {
             // Create the linear solver for this line
             ExpressionsBasedModel model = new ExpressionsBasedModel();
 
-            String joltage = line.substring(line.indexOf("{")+1,line.length()-1);
-            int[] targetJoltage = new int[joltage.length()];
-            String[] joltages = joltage.split(",");
-            for (int i = 0; i < joltages.length; i++) {
-                targetJoltage[i] = Integer.parseInt(joltages[i]);
-            }
+            int[] targetJoltage = machine.targetJoltage;
+            Button[] buttons = machine.buttons;
 
-            String[] buttonStrings = line.substring(
-                line.indexOf("]")+1, 
-                line.indexOf("{")).trim().split(" ");
-            Button[] buttons = new Button[buttonStrings.length];
-            for (int i = 0; i < buttons.length; i++) {
-                buttons[i] = new Button(buttonStrings[i]);
+            if (Trace.DEBUG) {
+                Trace.log(Arrays.toString(targetJoltage));
+                Trace.log(Arrays.toString(buttons));
             }
 
-            System.out.println(Arrays.toString(targetJoltage));
-            System.out.println(Arrays.toString(buttons));
-
             // Build the button-joltage matrix
             boolean[][] matrix = new boolean[buttons.length][targetJoltage.length];
             for (int i = 0; i < buttons.length; i++) {
@@ -149,7 +140,7 @@ public class Day10 extends Day {
                 result += totalPresses;  // Add to overall result
             } else {
                 // Infeasible (unlikely for valid AoC inputs)
-                System.out.println("No solution found");
+                if (Trace.INFO) Trace.log("No solution found");
             }
         }
 
@@ -157,36 +148,30 @@ public class Day10 extends Day {
 
     }    
         
-    public String part2Attempt2(ArrayList<String> input) {
+    @Variant(part = 2, name = "recursive", description = "Recursive search over button press combinations, one light at a time")
+    public String part2Attempt2(ArrayList<Machine> machines) {
         int result = 0;
+        CancellationToken token = CancellationToken.current();
 
-        for (String line: input) {
-            String joltage = line.substring(line.indexOf("{")+1,line.length()-1);
-            int[] targetJoltage = new int[joltage.length()];
-            String[] joltages = joltage.split(",");
-            for (int i = 0; i < joltages.length; i++) {
-                targetJoltage[i] = Integer.parseInt(joltages[i]);
-            }
-
-            String[] buttonStrings = line.substring(
-                line.indexOf("]")+1, 
-                line.indexOf("{")).trim().split(" ");
-            Button[] buttons = new Button[buttonStrings.length];
-            for (int i = 0; i < buttons.length; i++) {
-                buttons[i] = new Button(buttonStrings[i]);
-            }
+        for (int m = 0; m < machines.size(); m++) {
+            token.progress("machines solved", m, machines.size());
+            Machine machine = machines.get(m);
+            int[] targetJoltage = machine.targetJoltage;
+            Button[] buttons = machine.buttons;
 
             // System.out.println(Arrays.toString(targetJoltage));
             // System.out.println(Arrays.toString(buttons));
 
-            memo.clear();
-            result += process(targetJoltage, buttons, 0, Integer.MAX_VALUE);
+            // Fresh memo per machine, local so concurrent calls never share it
+            Map<String, Integer> memo = new HashMap<>();
+            result += process(targetJoltage, buttons, 0, Integer.MAX_VALUE, memo);
         }
         
         return String.valueOf(result);
     }
 
-    public int process(int[] joltage, Button[] buttons, int depth, int globalMin) {
+    public int process(int[] joltage, Button[] buttons, int depth, int globalMin, Map<String, Integer> memo) {
+        CancellationToken.current().checkpoint();
         String key = Arrays.toString(joltage) + "|" + Arrays.toString(buttons);
         if (memo.containsKey(key)) return memo.get(key);
 
@@ -231,7 +216,7 @@ public class Day10 extends Day {
             if (endJoltage(resultJoltage)) return depth + clicks;
             if (!validJoltage(resultJoltage) || newButtonCount == 0) continue;
 
-            int resultDepth = process(resultJoltage, newButtons, depth + clicks, globalMin); 
+            int resultDepth = process(resultJoltage, newButtons, depth + clicks, globalMin, memo); 
             if (resultDepth < globalMin) globalMin = resultDepth;
         }
 
@@ -286,25 +271,17 @@ public class Day10 extends Day {
         }
     }
 
-    public String bfs2(ArrayList<String> input) {
+    @Variant(part = 2, name = "bfs", description = "Breadth-first search over button press sequences")
+    public String bfs2(ArrayList<Machine> machines) {
         int result = 0;
+        CancellationToken token = CancellationToken.current();
 
         line: 
-        for (String line: input) {
-            String joltage = line.substring(line.indexOf("{")+1,line.length()-1);
-            int[] targetJoltage = new int[joltage.length()];
-            String[] joltages = joltage.split(",");
-            for (int i = 0; i < joltages.length; i++) {
-                targetJoltage[i] = Integer.parseInt(joltages[i]);
-            }
-
-            String[] buttonStrings = line.substring(
-                line.indexOf("]")+1, 
-                line.indexOf("{")).trim().split(" ");
-            Button[] buttons = new Button[buttonStrings.length];
-            for (int i = 0; i < buttons.length; i++) {
-                buttons[i] = new Button(buttonStrings[i]);
-            }
+        for (int m = 0; m < machines.size(); m++) {
+            token.progress("machines solved", m, machines.size());
+            Machine machine = machines.get(m);
+            int[] targetJoltage = machine.targetJoltage;
+            Button[] buttons = machine.buttons;
 
             // System.out.println(Arrays.toString(targetJoltage));
             // System.out.println(Arrays.toString(buttons));
@@ -328,6 +305,7 @@ public class Day10 extends Day {
             }
 
             while (buttonPresses.size() > 0) {
+                token.checkpoint();
                 ArrayList<ButtonPress> presses = buttonPresses.remove(0);
                 int[] jlts = presses.get(presses.size() - 1).getResultJoltage(); 
                 // for (ButtonPress p : presses) System.out.print(p + " ");
@@ -354,6 +332,38 @@ public class Day10 extends Day {
         return String.valueOf(result);
     }
 
+    /**
+     * One parsed input line: the target light pattern, the buttons and the joltage targets.
+     */
+    public class Machine {
+        final boolean[] targetState;
+        final Button[] buttons;
+        final int[] targetJoltage;
+
+        public Machine(String line) {
+            String lights = line.substring(1, line.indexOf("]"));
+            targetState = new boolean[lights.length()];
+            for (int i = 0; i < lights.length(); i++) {
+                targetState[i] = lights.substring(i, i+1).equals("#");
+            }
+
+            String[] buttonStrings = line.substring(
+                line.indexOf("]")+1, 
+                line.indexOf("{")).trim().split(" ");
+            buttons = new Button[buttonStrings.length];
+            for (int i = 0; i < buttons.length; i++) {
+                buttons[i] = new Button(buttonStrings[i]);
+            }
+
+            String joltage = line.substring(line.indexOf("{")+1,line.length()-1);
+            String[] joltages = joltage.split(",");
+            targetJoltage = new int[joltages.length];
+            for (int i = 0; i < joltages.length; i++) {
+                targetJoltage[i] = Integer.parseInt(joltages[i]);
+            }
+        }
+    }
+
     public class Node {
         int[] buttons;
 
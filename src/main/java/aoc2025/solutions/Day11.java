@@ -7,94 +7,107 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 
-public class Day11 extends Day {
-    private TreeMap<String, Device> connectionMap = new TreeMap<>();
-    private Device start;
-    private Device exit;
-    private HashMap<String, Long> memo = new HashMap<>();
-    
+@DayInfo(day = 11)
+public class Day11 extends Day<Day11.Network> {
+
     public Day11() { super(11); }
 
+    /**
+     * Builds the device graph once; both parts count routes through the same graph.
+     */
     @Override
-    public String part1(ArrayList<String> input) {
-        String startName = "you"; 
-        String exitName = "out";
+    public Network parse(ArrayList<String> input) {
+        TreeMap<String, Device> connectionMap = new TreeMap<>();
         for (String line: input) {
-            Device.buildConnectionFromString(line, connectionMap, this, startName, exitName);
+            Device.buildConnectionFromString(line, connectionMap);
         }
+        return new Network(connectionMap);
+    }
+
+    @Override
+    public String part1(Network network) {
+        Device start = network.get("you");
+        Device exit = network.get("out");
 
-        // printMap();
+        // printMap(network);
 
         // Count paths from you to out
-        long paths = routesTo(start, exit);
+        long paths = routesTo(start, exit, new HashMap<>());
 
         return String.valueOf(paths);
     }
 
-    private long routesTo(Device from, Device to) {
-        return routesTo(from, to, new Device[0]);
+    private long routesTo(Device from, Device to, HashMap<String, Long> memo) {
+        return routesTo(from, to, new Device[0], memo);
     }
 
-    private long routesTo(Device from, Device to, Device[] exclusions) {
-        return routesTo(from, to, exclusions, new ArrayList<>());
+    private long routesTo(Device from, Device to, Device[] exclusions, HashMap<String, Long> memo) {
+        return routesTo(from, to, exclusions, new ArrayList<>(), memo);
     }
 
-    private long routesTo(Device from, Device to, Device[] exclusions, ArrayList<Device> path) {
+    private long routesTo(Device from, Device to, Device[] exclusions, ArrayList<Device> path, HashMap<String, Long> memo) {
         String exclusionsStr = Arrays.stream(exclusions).map(Device::getName).sorted().collect(Collectors.joining(","));
         String key = from.getName() + "|" + to.getName() + "|" + exclusionsStr;
         if (memo.containsKey(key)) return memo.get(key);
         
-        ArrayList<Device> newPath = new ArrayList<>(path);
-        newPath.add(from);
-        System.out.println(newPath.stream().map(Device::getName).collect(Collectors.joining(" -> ")));
-
-        if (from == to) return 1L;
-
-        long paths = 0;
-        for (Device child : from.getConnections()) {
-            if (path.contains(child)) continue;
-            boolean excluded = false;
-            for (Device ex : exclusions) {
-                if (child != to && child == ex ) {
-                    excluded = true;
-                    break;
+        // One shared path, extended on the way down and restored on the way back up
+        path.add(from);
+        try {
+            if (Trace.DEBUG) Trace.log(path.stream().map(Device::getName).collect(Collectors.joining(" -> ")));
+
+            if (from == to) return 1L;
+
+            long paths = 0;
+            for (Device child : from.getConnections()) {
+                // Skip devices already on the path above this one
+                int seen = path.indexOf(child);
+                if (seen >= 0 && seen < path.size() - 1) continue;
+                boolean excluded = false;
+                for (Device ex : exclusions) {
+                    if (child != to && child == ex ) {
+                        excluded = true;
+                        break;
+                    }
                 }
+                if (!excluded) paths += routesTo(child, to, exclusions, path, memo);
             }
-            if (!excluded) paths += routesTo(child, to, exclusions, newPath);
+            memo.put(key, paths);
+            return paths;
+        } finally {
+            path.remove(path.size() - 1);
         }
-        memo.put(key, paths);
-        return paths;
     }
 
     @Override
-    public String part2(ArrayList<String> input) {
-        // I think we can use the existing map
-        start = connectionMap.get("svr");
+    public String part2(Network network) {
+        Device start = network.get("svr");
+        Device exit = network.get("out");
+        HashMap<String, Long> memo = new HashMap<>();
         String[] requiredNodes = {"dac", "fft"};
         Device[] requiredDevices = new Device[requiredNodes.length];
         for (int i = 0; i < requiredNodes.length; i++) {
-            requiredDevices[i] = connectionMap.get(requiredNodes[i]);
+            requiredDevices[i] = network.get(requiredNodes[i]);
             if (requiredDevices[i] == null) throw new RuntimeException("Required node not found.");
         }
 
         long[] pathPartCount = new long[requiredNodes.length * 2 + (requiredNodes.length * requiredNodes.length)];
 
         for (int i = 0; i < requiredDevices.length; i++) {
-            pathPartCount[i] = routesTo(start, requiredDevices[i], requiredDevices);
-            System.out.printf("%d:\tThere are %d paths from %s to %s%n", i, pathPartCount[i], start, requiredDevices[i]);
+            pathPartCount[i] = routesTo(start, requiredDevices[i], requiredDevices, memo);
+            if (Trace.INFO) Trace.log("%d:\tThere are %d paths from %s to %s", i, pathPartCount[i], start, requiredDevices[i]);
 
             for (int j = 0; j < requiredDevices.length; j++) {
                 if (i == j) 
                     pathPartCount[(i + 1) * requiredDevices.length + j] = 1;
                 else
-                    pathPartCount[(i + 1) * requiredDevices.length + j] = routesTo(requiredDevices[i], requiredDevices[j], requiredDevices);
-                System.out.printf("%d:\tThere are %d paths from %s to %s%n", 
+                    pathPartCount[(i + 1) * requiredDevices.length + j] = routesTo(requiredDevices[i], requiredDevices[j], requiredDevices, memo);
+                if (Trace.INFO) Trace.log("%d:\tThere are %d paths from %s to %s",
                     (i + 1) * requiredDevices.length + j, 
                     pathPartCount[(i + 1) * requiredDevices.length + j], 
                     requiredDevices[i], requiredDevices[j]);
             }
-            pathPartCount[requiredDevices.length + requiredDevices.length * requiredDevices.length + i] = routesTo(requiredDevices[i], exit, requiredDevices);
-            System.out.printf("%d:\tThere are %d paths from %s to %s%n", requiredDevices.length + requiredDevices.length * requiredDevices.length + i, pathPartCount[requiredDevices.length + requiredDevices.length * requiredDevices.length + i], requiredDevices[i], exit);
+            pathPartCount[requiredDevices.length + requiredDevices.length * requiredDevices.length + i] = routesTo(requiredDevices[i], exit, requiredDevices, memo);
+            if (Trace.INFO) Trace.log("%d:\tThere are %d paths from %s to %s", requiredDevices.length + requiredDevices.length * requiredDevices.length + i, pathPartCount[requiredDevices.length + requiredDevices.length * requiredDevices.length + i], requiredDevices[i], exit);
        }
 
         long paths = 0;
@@ -119,8 +132,8 @@ public class Day11 extends Day {
         return String.valueOf(paths);
     }
 
-    private void printMap() {
-        for (Device device : connectionMap.values()) {
+    private void printMap(Network network) {
+        for (Device device : network.connectionMap.values()) {
             System.out.printf("%s: ", device.getName());
             for (Device child : device.getConnections()) {
                 System.out.printf("%s ", child.getName());
@@ -129,12 +142,19 @@ public class Day11 extends Day {
         }
     }
 
-    public void setStart(Device device) {
-        this.start = device;
-    }
+    /**
+     * The device graph: every device by name, with its outgoing connections.
+     */
+    public static class Network {
+        private final TreeMap<String, Device> connectionMap;
 
-    public void setExit(Device device) {
-        this.exit = device;
+        public Network(TreeMap<String, Device> connectionMap) {
+            this.connectionMap = connectionMap;
+        }
+
+        private Device get(String name) {
+            return connectionMap.get(name);
+        }
     }
 
     private static class Device {
@@ -146,7 +166,7 @@ public class Day11 extends Day {
             
         }
         
-        public static void buildConnectionFromString(String input, TreeMap<String, Device> connectionMap, Day11 day11, String startName, String exitName) {
+        public static void buildConnectionFromString(String input, TreeMap<String, Device> connectionMap) {
             Device device;
             String name = input.substring(0, input.indexOf(":"));
             if (connectionMap.containsKey(name)) {
@@ -155,7 +175,6 @@ public class Day11 extends Day {
                 device = new Device(name);
                 connectionMap.put(name, device);
             }
-            if (startName.equals(name)) day11.setStart(device);
 
 
             String[] connections = input.substring(input.indexOf(":")+2).split(" ");
@@ -166,7 +185,6 @@ public class Day11 extends Day {
                     Device child = new Device(connection);
                     device.addConnection(child);
                     connectionMap.put(connection, child);
-                    if (exitName.equals(connection)) day11.setExit(child);
                 }
 
             }
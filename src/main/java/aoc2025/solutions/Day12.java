@@ -3,9 +3,15 @@ package aoc2025.solutions;
 import java.util.ArrayList;
 
 
-public class Day12 extends Day {
+@DayInfo(day = 12)
+public class Day12 extends Day<ArrayList<String>> {
     public Day12() { super(12); }
 
+    @Override
+    public ArrayList<String> parse(ArrayList<String> input) {
+        return input;
+    }
+
     @Override
     public String part1(ArrayList<String> input) {
         // TODO: Implement Part 1
@@ -0,0 +1,19 @@
+package aoc2025.solutions;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link Day} implementation with its day number, so {@link DayRegistry} can
+ * index it without creating an instance. Implementations are also listed in
+ * {@code META-INF/services/aoc2025.solutions.Day}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DayInfo {
+    int day();
+}
@@ -0,0 +1,151 @@
+package aoc2025.solutions;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+
+/**
+ * Finds the {@link Day} implementations listed in {@code META-INF/services/aoc2025.solutions.Day}.
+ * <p>
+ * The index is built from the provider classes and their {@link DayInfo} and {@link Variant}
+ * annotations. Classes are loaded but never initialized or instantiated for it, so a
+ * day's static state and heavy dependencies (ojalgo for Day 10) are only touched once
+ * that day is actually created. Adding a day means adding the class and one line to the
+ * services file.
+ */
+public final class DayRegistry {
+    private static volatile TreeMap<Integer, Entry> index;
+
+    private DayRegistry() { }
+
+    /**
+     * An algorithm of one part, as declared by {@link Variant}.
+     */
+    public record VariantInfo(int part, String name, String description, String methodName) {
+        /**
+         * @return whether this is the algorithm {@code part1}/{@code part2} itself runs
+         */
+        public boolean isDefault() {
+            return methodName.equals("part" + part);
+        }
+    }
+
+    /**
+     * One registered day: its number and class, and a factory for fresh instances.
+     */
+    public static final class Entry {
+        private final int day;
+        private final Class<? extends Day<?>> type;
+        private List<VariantInfo> variants;
+
+        private Entry(int day, Class<? extends Day<?>> type) {
+            this.day = day;
+            this.type = type;
+        }
+
+        public int day() {
+            return day;
+        }
+
+        public Class<? extends Day<?>> type() {
+            return type;
+        }
+
+        /**
+         * @return the {@link Variant} methods of the day, ordered by part and name
+         */
+        public synchronized List<VariantInfo> variants() {
+            if (variants == null) {
+                variants = variantsOf(type);
+            }
+            return variants;
+        }
+
+        /**
+         * @return a new instance of the day; every call creates a fresh one
+         */
+        public Day<?> create() {
+            try {
+                return type.getDeclaredConstructor().newInstance();
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Could not create Day " + day, e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create Day " + day, e);
+            }
+        }
+    }
+
+    /**
+     * @return every registered day, in day order
+     */
+    public static Collection<Entry> all() {
+        return index().values();
+    }
+
+    /**
+     * @return the registered day, or null if there is none
+     */
+    public static Entry find(int day) {
+        return index().get(day);
+    }
+
+    /**
+     * @return a fresh instance of the day, or null if there is none
+     */
+    public static Day<?> create(int day) {
+        Entry entry = find(day);
+        return entry == null ? null : entry.create();
+    }
+
+    /**
+     * Scans a day class for {@link Variant} methods.
+     *
+     * @return the variants, ordered by part and name
+     */
+    static List<VariantInfo> variantsOf(Class<?> type) {
+        ArrayList<VariantInfo> found = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            Variant variant = method.getAnnotation(Variant.class);
+            // Bridge methods of part1/part2 carry a copy of the annotation
+            if (variant != null && !method.isBridge()) {
+                found.add(new VariantInfo(variant.part(), variant.name(), variant.description(), method.getName()));
+            }
+        }
+        found.sort(Comparator.comparingInt(VariantInfo::part).thenComparing(VariantInfo::name));
+        return Collections.unmodifiableList(found);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static TreeMap<Integer, Entry> index() {
+        TreeMap<Integer, Entry> result = index;
+        if (result == null) {
+            synchronized (DayRegistry.class) {
+                result = index;
+                if (result == null) {
+                    result = new TreeMap<>();
+                    // stream() hands out provider classes without instantiating them
+                    for (ServiceLoader.Provider<Day> provider : (Iterable<ServiceLoader.Provider<Day>>) ServiceLoader.load(Day.class).stream()::iterator) {
+                        Class<? extends Day<?>> type = (Class) provider.type();
+                        DayInfo info = type.getAnnotation(DayInfo.class);
+                        if (info == null) {
+                            throw new IllegalStateException(type.getName() + " is registered as a Day but has no @DayInfo");
+                        }
+                        Entry previous = result.put(info.day(), new Entry(info.day(), type));
+                        if (previous != null) {
+                            throw new IllegalStateException("Day " + info.day() + " is registered twice: "
+                                    + previous.type().getName() + " and " + type.getName());
+                        }
+                    }
+                    index = result;
+                }
+            }
+        }
+        return result;
+    }
+}
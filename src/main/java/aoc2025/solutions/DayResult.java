@@ -0,0 +1,79 @@
+package aoc2025.solutions;
+
+/**
+ * The answers of one {@link Day} run together with the measurements (wall time,
+ * allocation, GC) of the parse phase and of each part.
+ */
+public class DayResult {
+    private final int dayNumber;
+    private final PartMetrics parse;
+    private final String answer1;
+    private final PartMetrics part1;
+    private final String answer2;
+    private final PartMetrics part2;
+
+    /**
+     * @param dayNumber the day
+     * @param parse the parse phase measurements, or null when the run had no parse phase (streaming)
+     * @param answer1 the part 1 answer
+     * @param part1 the part 1 measurements
+     * @param answer2 the part 2 answer
+     * @param part2 the part 2 measurements
+     */
+    public DayResult(int dayNumber, PartMetrics parse, String answer1, PartMetrics part1, String answer2, PartMetrics part2) {
+        this.dayNumber = dayNumber;
+        this.parse = parse;
+        this.answer1 = answer1;
+        this.part1 = part1;
+        this.answer2 = answer2;
+        this.part2 = part2;
+    }
+
+    public int getDayNumber() {
+        return dayNumber;
+    }
+
+    public long getParseNanos() {
+        return parse == null ? 0 : parse.getNanos();
+    }
+
+    public String getAnswer1() {
+        return answer1;
+    }
+
+    public long getNanos1() {
+        return part1.getNanos();
+    }
+
+    public String getAnswer2() {
+        return answer2;
+    }
+
+    public long getNanos2() {
+        return part2.getNanos();
+    }
+
+    public PartMetrics getParseMetrics() {
+        return parse;
+    }
+
+    public PartMetrics getPart1Metrics() {
+        return part1;
+    }
+
+    public PartMetrics getPart2Metrics() {
+        return part2;
+    }
+
+    /**
+     * Prints the result in the classic one-line-per-part format, with the
+     * allocation and GC figures next to each timing.
+     */
+    public void print() {
+        if (parse != null) {
+            System.out.printf("Day %02d - Parse: (%s)%n", dayNumber, parse);
+        }
+        System.out.printf("Day %02d - Part 1: %s (%s)%n", dayNumber, answer1, part1);
+        System.out.printf("Day %02d - Part 2: %s (%s)%n", dayNumber, answer2, part2);
+    }
+}
@@ -0,0 +1,144 @@
+package aoc2025.solutions;
+
+import java.util.Objects;
+
+/**
+ * Precomputed answers for one Day 1 move log, for when the same log is queried many
+ * times: where the dial is after move k, and how often it hit 0 between two moves.
+ * Every query is a couple of array reads.
+ * <p>
+ * Built in one pass. Positions fit in a byte. Cumulative hit counts are stored as a long
+ * checkpoint every 256 moves plus a small offset per move from the last checkpoint: a
+ * byte for landings (at most 255 within a block) and a char for clicks, switching to an
+ * int only if a block's click count ever outgrows 16 bits. With puzzle-sized moves that
+ * is about 4 bytes per move instead of 20 for plain int/long prefix arrays.
+ * <p>
+ * Counting follows {@link DialScan.Rule}: a landing is a move that leaves the dial at 0
+ * (part 1), a click is any click that brings it to 0 (part 2).
+ */
+public final class DialIndex {
+    private static final int BLOCK_SHIFT = 8;
+    private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+
+    private final int moves;
+    /** positions[k]: the dial after k moves */
+    private final byte[] positions;
+    private final long[] landingCheckpoints;
+    private final byte[] landingOffsets;
+    private final long[] clickCheckpoints;
+    /** Click offsets: narrow unless some block needed more than 16 bits, then wide. */
+    private final char[] clickOffsets;
+    private final int[] wideClickOffsets;
+
+    private DialIndex(int moves, byte[] positions, long[] landingCheckpoints, byte[] landingOffsets,
+                      long[] clickCheckpoints, char[] clickOffsets, int[] wideClickOffsets) {
+        this.moves = moves;
+        this.positions = positions;
+        this.landingCheckpoints = landingCheckpoints;
+        this.landingOffsets = landingOffsets;
+        this.clickCheckpoints = clickCheckpoints;
+        this.clickOffsets = clickOffsets;
+        this.wideClickOffsets = wideClickOffsets;
+    }
+
+    /**
+     * Indexes a move log.
+     *
+     * @param moves signed click counts, right positive
+     * @param start the dial position before the first move
+     */
+    public static DialIndex build(int[] moves, int start) {
+        int entries = moves.length + 1;
+        int blocks = (moves.length >>> BLOCK_SHIFT) + 1;
+        byte[] positions = new byte[entries];
+        long[] landingCheckpoints = new long[blocks];
+        byte[] landingOffsets = new byte[entries];
+        long[] clickCheckpoints = new long[blocks];
+        char[] clickOffsets = new char[entries];
+        int[] wideClickOffsets = null;
+
+        int position = start;
+        long landings = 0;
+        long clicks = 0;
+        positions[0] = (byte) position;
+        for (int k = 1; k < entries; k++) {
+            int move = moves[k - 1];
+            // Same arithmetic as Day01.part2Kernel
+            int target = position + move;
+            int turns = Math.floorDiv(target, 100);
+            int next = target - 100 * turns;
+            clicks += move >= 0 ? turns : (next == 0 ? 1 : 0) - (position == 0 ? 1 : 0) - turns;
+            landings += next == 0 ? 1 : 0;
+            position = next;
+
+            positions[k] = (byte) position;
+            int block = k >>> BLOCK_SHIFT;
+            if ((k & BLOCK_MASK) == 0) {
+                landingCheckpoints[block] = landings;
+                clickCheckpoints[block] = clicks;
+            }
+            landingOffsets[k] = (byte) (landings - landingCheckpoints[block]);
+            long clickOffset = clicks - clickCheckpoints[block];
+            if (clickOffset > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Moves too long to index near move " + k);
+            }
+            if (wideClickOffsets == null && clickOffset > Character.MAX_VALUE) {
+                wideClickOffsets = new int[entries];
+                for (int i = 0; i < k; i++) {
+                    wideClickOffsets[i] = clickOffsets[i];
+                }
+                clickOffsets = null;
+            }
+            if (wideClickOffsets != null) {
+                wideClickOffsets[k] = (int) clickOffset;
+            } else {
+                clickOffsets[k] = (char) clickOffset;
+            }
+        }
+        return new DialIndex(moves.length, positions, landingCheckpoints, landingOffsets,
+                clickCheckpoints, clickOffsets, wideClickOffsets);
+    }
+
+    /** @return the number of moves indexed */
+    public int moves() {
+        return moves;
+    }
+
+    /** @return the dial position after the first k moves (k = 0 is the start) */
+    public int position(int k) {
+        Objects.checkIndex(k, moves + 1);
+        return positions[k];
+    }
+
+    /** @return how many of the first k moves left the dial at 0 */
+    public long landings(int k) {
+        Objects.checkIndex(k, moves + 1);
+        return landingCheckpoints[k >>> BLOCK_SHIFT] + (landingOffsets[k] & 0xFF);
+    }
+
+    /** @return how many clicks of the first k moves brought the dial to 0 */
+    public long clicks(int k) {
+        Objects.checkIndex(k, moves + 1);
+        int offset = clickOffsets != null ? clickOffsets[k] : wideClickOffsets[k];
+        return clickCheckpoints[k >>> BLOCK_SHIFT] + offset;
+    }
+
+    /** @return landings on 0 during moves {@code from} (inclusive) to {@code to} (exclusive) */
+    public long landingsBetween(int from, int to) {
+        Objects.checkFromToIndex(from, to, moves);
+        return landings(to) - landings(from);
+    }
+
+    /** @return clicks onto 0 during moves {@code from} (inclusive) to {@code to} (exclusive) */
+    public long clicksBetween(int from, int to) {
+        Objects.checkFromToIndex(from, to, moves);
+        return clicks(to) - clicks(from);
+    }
+
+    /** @return the approximate heap footprint of the index arrays, in bytes */
+    public long sizeInBytes() {
+        long clickBytes = clickOffsets != null ? 2L * clickOffsets.length : 4L * wideClickOffsets.length;
+        return positions.length + landingOffsets.length + clickBytes
+                + 8L * (landingCheckpoints.length + clickCheckpoints.length);
+    }
+}
@@ -0,0 +1,174 @@
+package aoc2025.solutions;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The Day 1 dial as an associative composition, so a long list of moves can be split
+ * into chunks that are solved independently and combined afterwards.
+ * <p>
+ * A chunk of moves is summarized by its net rotation and, for every one of the 100
+ * positions the dial could be at when the chunk starts, how many times it points at 0
+ * during the chunk. Two summaries compose in O(100): the second chunk is entered where
+ * the first one leaves the dial. The whole list is reduced with a fork-join split over
+ * the common pool; each leaf is a single sequential pass.
+ * <p>
+ * Moves are signed click counts: positive turns right (up), negative turns left.
+ */
+public final class DialScan {
+    public static final int POSITIONS = 100;
+    /** Moves per leaf: big enough that combining summaries costs nothing in comparison. */
+    private static final int LEAF_MOVES = 1 << 16;
+
+    /**
+     * Which visits to 0 count as a hit.
+     */
+    public enum Rule {
+        /** Part 1: the dial is left at 0 at the end of a move. */
+        LANDINGS,
+        /** Part 2: any click of a move that brings the dial to 0. */
+        CLICKS
+    }
+
+    private DialScan() { }
+
+    /**
+     * The effect of a chunk of moves, independent of where the dial starts.
+     */
+    public static final class Summary {
+        private final int offset;
+        private final long[] hits;
+
+        private Summary(int offset, long[] hits) {
+            this.offset = offset;
+            this.hits = hits;
+        }
+
+        /**
+         * @return the hits of this chunk followed by {@code next}
+         */
+        public Summary then(Summary next) {
+            long[] combined = new long[POSITIONS];
+            for (int entry = 0; entry < POSITIONS; entry++) {
+                combined[entry] = hits[entry] + next.hits[(entry + offset) % POSITIONS];
+            }
+            return new Summary((offset + next.offset) % POSITIONS, combined);
+        }
+
+        /** @return how often the dial points at 0 when the chunk starts at {@code entry} */
+        public long hitsFrom(int entry) {
+            return hits[entry];
+        }
+
+        /** @return where the dial ends when the chunk starts at {@code entry} */
+        public int exitFrom(int entry) {
+            return (entry + offset) % POSITIONS;
+        }
+    }
+
+    /**
+     * Summarizes {@code moves[from, to)}, in parallel when the range is large.
+     */
+    public static Summary scan(int[] moves, int from, int to, Rule rule) {
+        if (to - from <= LEAF_MOVES) return summarize(moves, from, to, rule);
+        return ForkJoinPool.commonPool().invoke(new ScanTask(moves, from, to, rule));
+    }
+
+    /**
+     * Summarizes {@code moves[from, to)} in one sequential pass.
+     * <p>
+     * For {@link Rule#LANDINGS} it counts the prefix rotations mod 100: the dial stops at
+     * 0 after a move exactly when entry + prefix is a multiple of 100. For
+     * {@link Rule#CLICKS} every move of k = 100a + b clicks hits 0 a times from anywhere,
+     * plus once more from a band of b entry positions (the last b before 0 going right,
+     * the first b after 0 going left). The bands are cyclic intervals of the chunk's entry
+     * position, so they are accumulated in a difference array.
+     */
+    static Summary summarize(int[] moves, int from, int to, Rule rule) {
+        long[] hits = new long[POSITIONS];
+        int prefix = 0;
+        if (rule == Rule.LANDINGS) {
+            long[] landings = new long[POSITIONS];
+            for (int i = from; i < to; i++) {
+                // moves[i] % 100 keeps the sign, so one correction brings it back into range
+                prefix += moves[i] % POSITIONS;
+                if (prefix < 0) {
+                    prefix += POSITIONS;
+                } else if (prefix >= POSITIONS) {
+                    prefix -= POSITIONS;
+                }
+                landings[prefix]++;
+            }
+            for (int entry = 0; entry < POSITIONS; entry++) {
+                hits[entry] = landings[(POSITIONS - entry) % POSITIONS];
+            }
+            return new Summary(prefix, hits);
+        }
+
+        long fullTurns = 0;
+        long[] difference = new long[POSITIONS + 1];
+        for (int i = from; i < to; i++) {
+            int move = moves[i];
+            int clicks = Math.abs(move);
+            fullTurns += clicks / POSITIONS;
+            int rest = clicks % POSITIONS;
+            if (rest == 0) continue;
+            // The band in dial positions is [100 - rest, 99] going right and [1, rest]
+            // going left; shifting it back by the prefix gives entry positions
+            int first;
+            if (move > 0) {
+                first = POSITIONS - rest - prefix;
+                prefix += rest;
+                if (prefix >= POSITIONS) prefix -= POSITIONS;
+            } else {
+                first = 1 - prefix;
+                prefix -= rest;
+                if (prefix < 0) prefix += POSITIONS;
+            }
+            addCyclic(difference, first < 0 ? first + POSITIONS : first, rest);
+        }
+        long running = fullTurns;
+        for (int entry = 0; entry < POSITIONS; entry++) {
+            running += difference[entry];
+            hits[entry] = running;
+        }
+        return new Summary(prefix, hits);
+    }
+
+    private static void addCyclic(long[] difference, int start, int length) {
+        int end = start + length;
+        difference[start]++;
+        if (end <= POSITIONS) {
+            difference[end]--;
+        } else {
+            difference[0]++;
+            difference[end - POSITIONS]--;
+        }
+    }
+
+    private static final class ScanTask extends RecursiveTask<Summary> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] moves;
+        private final int from;
+        private final int to;
+        private final Rule rule;
+
+        ScanTask(int[] moves, int from, int to, Rule rule) {
+            this.moves = moves;
+            this.from = from;
+            this.to = to;
+            this.rule = rule;
+        }
+
+        @Override
+        protected Summary compute() {
+            if (to - from <= LEAF_MOVES) return summarize(moves, from, to, rule);
+            int middle = (from + to) >>> 1;
+            ScanTask left = new ScanTask(moves, from, middle, rule);
+            left.fork();
+            Summary right = new ScanTask(moves, middle, to, rule).compute();
+            return left.join().then(right);
+        }
+    }
+}
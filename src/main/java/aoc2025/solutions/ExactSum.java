@@ -0,0 +1,53 @@
+package aoc2025.solutions;
+
+import java.math.BigInteger;
+
+/**
+ * A running sum that never overflows: it adds plain longs while the total fits in a long
+ * and switches to a {@link BigInteger} the first time it would not, so the common case
+ * costs one overflow check per addition.
+ */
+public final class ExactSum {
+    private long small;
+    private BigInteger big;
+
+    public void add(long value) {
+        if (big != null) {
+            big = big.add(BigInteger.valueOf(value));
+            return;
+        }
+        long result = small + value;
+        // Overflow iff both operands have the same sign and the result's sign differs
+        if (((small ^ result) & (value ^ result)) < 0) {
+            big = BigInteger.valueOf(small).add(BigInteger.valueOf(value));
+        } else {
+            small = result;
+        }
+    }
+
+    public void add(BigInteger value) {
+        big = toBigInteger().add(value);
+    }
+
+    public void add(ExactSum other) {
+        if (other.big == null) {
+            add(other.small);
+        } else {
+            add(other.big);
+        }
+    }
+
+    /** @return whether the total has outgrown a long */
+    public boolean isWide() {
+        return big != null;
+    }
+
+    public BigInteger toBigInteger() {
+        return big != null ? big : BigInteger.valueOf(small);
+    }
+
+    @Override
+    public String toString() {
+        return big != null ? big.toString() : Long.toString(small);
+    }
+}
@@ -1,21 +1,246 @@
 package aoc2025.solutions;
 
+import java.math.BigInteger;
 import java.util.HashSet;
 import java.util.Set;
 
 public class InvalidIdCalculator {
 
+    /** Longest numbers the wide path is tuned for (10^38 has 39 digits); longer ones still work. */
+    private static final int MAX_TABLE_DIGITS = 40;
+
+    /** MOBIUS[k] is the Möbius function of k. */
+    private static final int[] MOBIUS = new int[MAX_TABLE_DIGITS + 1];
+
+    /** POWERS_OF_10[i] = 10^i for every power a long can hold. */
+    private static final long[] POWERS_OF_10 = new long[19];
+
+    static {
+        for (int k = 1; k <= MAX_TABLE_DIGITS; k++) {
+            MOBIUS[k] = mobius(k);
+        }
+        POWERS_OF_10[0] = 1;
+        for (int i = 1; i < POWERS_OF_10.length; i++) {
+            POWERS_OF_10[i] = POWERS_OF_10[i - 1] * 10;
+        }
+    }
+
     /**
-     * Calculates the sum of "invalid" IDs within a range using a GENERATOR approach.
+     * Calculates the sum of "invalid" IDs within a range in closed form.
      * * Definition: An "Invalid ID" is one that HAS a repeating pattern.
      * (e.g. 121212 is invalid. 123456 is valid).
-     * * Efficiency: Instead of checking every number in the range (which could be billions),
-     * we mathematically generate only the patterned numbers that fall within the range.
-     * * @param start The starting number of the range (inclusive).
+     * * Efficiency: For each number length and pattern length, the patterned numbers in the
+     * range are P * M for a run of consecutive patterns P, so their sum is an arithmetic
+     * series. Nothing is enumerated and nothing is allocated; a range costs a handful of
+     * divisions per divisor of each length it spans.
+     * * Overlaps: a number of totalLen digits has a repeating pattern exactly when it repeats
+     * with pattern length totalLen / p for some prime p dividing totalLen, and the numbers
+     * repeating with both totalLen / p and totalLen / q are those repeating with
+     * totalLen / (p * q). Inclusion-exclusion over those sets weights the series for
+     * pattern length totalLen / k by -μ(k), so 111111 is counted once: added for pattern 111
+     * (k = 2) and pattern 11 (k = 3), subtracted for pattern 1 (k = 6).
+     * * Overflow: every step is checked; use {@link #sumInvalidIds(BigInteger, BigInteger)}
+     * when this throws.
+     * @param start The starting number of the range (inclusive).
      * @param end   The ending number of the range (inclusive).
      * @return The sum of all unique numbers in the range that have a repeating pattern.
+     * @throws ArithmeticException if the sum (or a partial sum) does not fit in a long
      */
     public static long sumInvalidIds(long start, long end) {
+        long sum = 0;
+        int endLen = getLength(end);
+
+        // The k-fold repeats of every length are exactly the series for pattern length totalLen / k
+        for (int k = 2; k <= endLen; k++) {
+            if (MOBIUS[k] != 0) {
+                long series = sumRepeats(k, start, end);
+                sum = MOBIUS[k] < 0 ? Math.addExact(sum, series) : Math.subtractExact(sum, series);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Counts the invalid IDs within a range, with the same inclusion-exclusion as
+     * {@link #sumInvalidIds(long, long)}. Counts always fit in a long.
+     *
+     * @param start The starting number of the range (inclusive).
+     * @param end   The ending number of the range (inclusive).
+     * @return How many numbers in the range have a repeating pattern.
+     */
+    public static long countInvalidIds(long start, long end) {
+        long count = 0;
+        int endLen = getLength(end);
+        for (int k = 2; k <= endLen; k++) {
+            count -= MOBIUS[k] * countRepeats(k, start, end);
+        }
+        return count;
+    }
+
+    /**
+     * Sums the k-fold repeats within a range: the numbers made of some pattern written
+     * exactly 'times' times, such as 1212 and 123123 for times = 2 (the Part 1 rule) or
+     * 777 and 121212 for times = 3. For each pattern length d these are P * M with
+     * M = (10^(times*d) - 1) / (10^d - 1), so the sum is one arithmetic series per d, and a
+     * number is never counted twice: its length fixes d.
+     *
+     * @param times how often the pattern is repeated, at least 2
+     * @param start The starting number of the range (inclusive).
+     * @param end   The ending number of the range (inclusive).
+     * @return The sum of the k-fold repeats in the range.
+     * @throws ArithmeticException if the sum does not fit in a long
+     */
+    public static long sumRepeats(int times, long start, long end) {
+        long sum = 0;
+        int startLen = getLength(start);
+        int endLen = getLength(end);
+        for (int patLen = Math.ceilDiv(startLen, times); patLen * times <= endLen; patLen++) {
+            sum = Math.addExact(sum, sumPatternsForLength(patLen * times, patLen, start, end));
+        }
+        return sum;
+    }
+
+    /**
+     * Counts the k-fold repeats within a range; see {@link #sumRepeats(int, long, long)}.
+     *
+     * @param times how often the pattern is repeated, at least 2
+     * @param start The starting number of the range (inclusive).
+     * @param end   The ending number of the range (inclusive).
+     * @return How many numbers in the range are a pattern repeated 'times' times.
+     */
+    public static long countRepeats(int times, long start, long end) {
+        long count = 0;
+        int startLen = getLength(start);
+        int endLen = getLength(end);
+        for (int patLen = Math.ceilDiv(startLen, times); patLen * times <= endLen; patLen++) {
+            long multiplier = repeatMultiplier(patLen * times, patLen);
+            long first = firstPattern(patLen, multiplier, start);
+            long last = lastPattern(patLen, multiplier, end);
+            if (first <= last) count += last - first + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Sum of the numbers of 'totalLen' digits made of a repeating pattern of 'patLen'
+     * digits that fall within [rangeStart, rangeEnd], as an arithmetic series P * M.
+     */
+    private static long sumPatternsForLength(int totalLen, int patLen, long rangeStart, long rangeEnd) {
+        long multiplier = repeatMultiplier(totalLen, patLen);
+        long first = firstPattern(patLen, multiplier, rangeStart);
+        long last = lastPattern(patLen, multiplier, rangeEnd);
+        if (first > last) return 0;
+
+        // (first + last) * count / 2, halving whichever factor is even
+        long count = last - first + 1;
+        long total = first + last;
+        long series = count % 2 == 0 ? Math.multiplyExact(count / 2, total) : Math.multiplyExact(count, total / 2);
+        return Math.multiplyExact(series, multiplier);
+    }
+
+    /** M = 1 + 10^patLen + 10^(2 patLen) + ... up to 'totalLen' digits; fits for totalLen <= 19. */
+    private static long repeatMultiplier(int totalLen, int patLen) {
+        long step = POWERS_OF_10[patLen];
+        long multiplier = 0;
+        long shift = 1;
+        for (int i = 0; i < totalLen / patLen; i++) {
+            multiplier += shift;
+            shift *= step;
+        }
+        return multiplier;
+    }
+
+    /** Smallest 'patLen'-digit pattern P with P * M >= rangeStart. */
+    private static long firstPattern(int patLen, long multiplier, long rangeStart) {
+        return Math.max(POWERS_OF_10[patLen - 1], Math.ceilDiv(rangeStart, multiplier));
+    }
+
+    /** Largest 'patLen'-digit pattern P with P * M <= rangeEnd. */
+    private static long lastPattern(int patLen, long multiplier, long rangeEnd) {
+        return Math.min(POWERS_OF_10[patLen] - 1, rangeEnd / multiplier);
+    }
+
+    /**
+     * Wide counterpart of {@link #sumInvalidIds(long, long)} for bounds and sums beyond a
+     * long, e.g. ranges up to 10^38. Same series and inclusion-exclusion, in BigInteger.
+     *
+     * @param start The starting number of the range (inclusive).
+     * @param end   The ending number of the range (inclusive).
+     * @return The sum of all unique numbers in the range that have a repeating pattern.
+     */
+    public static BigInteger sumInvalidIds(BigInteger start, BigInteger end) {
+        BigInteger sum = BigInteger.ZERO;
+        if (start.compareTo(end) > 0) return sum;
+
+        int endLen = end.toString().length();
+        for (int k = 2; k <= endLen; k++) {
+            int mu = k <= MAX_TABLE_DIGITS ? MOBIUS[k] : mobius(k);
+            if (mu != 0) {
+                BigInteger series = sumRepeats(k, start, end);
+                sum = mu < 0 ? sum.add(series) : sum.subtract(series);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Wide counterpart of {@link #sumRepeats(int, long, long)}.
+     *
+     * @param times how often the pattern is repeated, at least 2
+     * @param start The starting number of the range (inclusive).
+     * @param end   The ending number of the range (inclusive).
+     * @return The sum of the k-fold repeats in the range.
+     */
+    public static BigInteger sumRepeats(int times, BigInteger start, BigInteger end) {
+        BigInteger sum = BigInteger.ZERO;
+        if (start.compareTo(end) > 0) return sum;
+
+        int startLen = start.signum() == 0 ? 1 : start.toString().length();
+        int endLen = end.toString().length();
+        for (int patLen = Math.ceilDiv(startLen, times); patLen * times <= endLen; patLen++) {
+            sum = sum.add(sumPatternsForLength(patLen * times, patLen, start, end));
+        }
+        return sum;
+    }
+
+    private static BigInteger sumPatternsForLength(int totalLen, int patLen, BigInteger rangeStart, BigInteger rangeEnd) {
+        BigInteger step = BigInteger.TEN.pow(patLen);
+        // M = (10^totalLen - 1) / (10^patLen - 1) = 1 + 10^patLen + 10^(2 patLen) + ...
+        BigInteger multiplier = BigInteger.TEN.pow(totalLen).subtract(BigInteger.ONE)
+                .divide(step.subtract(BigInteger.ONE));
+
+        BigInteger[] startDivision = rangeStart.divideAndRemainder(multiplier);
+        BigInteger startConstraint = startDivision[1].signum() == 0 ? startDivision[0] : startDivision[0].add(BigInteger.ONE);
+        BigInteger first = step.divide(BigInteger.TEN).max(startConstraint);
+        BigInteger last = step.subtract(BigInteger.ONE).min(rangeEnd.divide(multiplier));
+        if (first.compareTo(last) > 0) return BigInteger.ZERO;
+
+        BigInteger count = last.subtract(first).add(BigInteger.ONE);
+        return first.add(last).multiply(count).shiftRight(1).multiply(multiplier);
+    }
+
+    private static int mobius(int k) {
+        int result = 1;
+        for (int p = 2; p * p <= k; p++) {
+            if (k % p != 0) continue;
+            k /= p;
+            if (k % p == 0) return 0;
+            result = -result;
+        }
+        return k > 1 ? -result : result;
+    }
+
+    /**
+     * Calculates the sum of "invalid" IDs within a range using a GENERATOR approach.
+     * * Instead of checking every number in the range, we generate only the patterned
+     * numbers that fall within it and dedupe them through a set. Linear in the number of
+     * patterned numbers; kept as a cross-check for {@link #sumInvalidIds(long, long)}.
+     * * @param start The starting number of the range (inclusive).
+     * @param end   The ending number of the range (inclusive).
+     * @return The sum of all unique numbers in the range that have a repeating pattern.
+     * @throws ArithmeticException if the sum does not fit in a long
+     */
+    public static long sumInvalidIdsByEnumeration(long start, long end) {
         Set<Long> uniqueInvalidIds = new HashSet<>();
         
         int startLen = getLength(start);
@@ -35,7 +260,7 @@ public class InvalidIdCalculator {
 
         long sum = 0;
         for (Long id : uniqueInvalidIds) {
-            sum += id;
+            sum = Math.addExact(sum, id);
         }
         return sum;
     }
@@ -61,14 +286,14 @@ public class InvalidIdCalculator {
             multiplier += shift;
             // shift becomes 10^patLen, then 10^(2*patLen), etc.
             // We need to multiply shift by 10^patLen safely.
-            long step = (long) Math.pow(10, patLen);
+            long step = POWERS_OF_10[patLen];
             shift *= step; 
         }
 
         // 2. Determine bounds for the Base Pattern P
         // P must be a 'patLen' digit number.
-        long minP = (long) Math.pow(10, patLen - 1);
-        long maxP = (long) Math.pow(10, patLen) - 1;
+        long minP = POWERS_OF_10[patLen - 1];
+        long maxP = POWERS_OF_10[patLen] - 1;
 
         // 3. Constrain P based on the requested range [rangeStart, rangeEnd]
         // We need: rangeStart <= P * M  =>  P >= ceil(rangeStart / M)
@@ -87,9 +312,16 @@ public class InvalidIdCalculator {
         }
     }
 
+    /**
+     * Number of decimal digits of a non-negative n, by comparing against the powers of
+     * ten instead of going through floating-point log10.
+     */
     private static int getLength(long n) {
-        if (n == 0) return 1;
-        return (int) Math.log10(Math.abs(n)) + 1;
+        int length = 1;
+        while (length < POWERS_OF_10.length && n >= POWERS_OF_10[length]) {
+            length++;
+        }
+        return length;
     }
 
     public static void main(String[] args) {
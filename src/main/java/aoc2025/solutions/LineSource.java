@@ -0,0 +1,106 @@
+package aoc2025.solutions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a file one line at a time through a fixed-size buffer on a {@link FileChannel}.
+ *
+ * <p>Only the current line is ever held on the heap, so a single-pass solver fed from a
+ * LineSource runs in constant memory no matter how large the file is. Lines are decoded
+ * as ASCII; {@code \n} and {@code \r\n} terminators are both accepted.
+ */
+public class LineSource implements Iterator<String>, Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private String next;
+    private boolean endOfFile;
+
+    private LineSource(FileChannel channel) {
+        this.channel = channel;
+        buffer.flip(); // start empty
+    }
+
+    /**
+     * Opens a file for streaming.
+     *
+     * @param path the file to read
+     * @return a line iterator; close it when done
+     * @throws IOException if the file cannot be opened
+     */
+    public static LineSource open(Path path) throws IOException {
+        return new LineSource(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !endOfFile) {
+            next = readLine();
+        }
+        return next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        String result = next;
+        next = null;
+        return result;
+    }
+
+    private String readLine() {
+        lineLength = 0;
+        boolean sawAnything = false;
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                int read;
+                try {
+                    read = channel.read(buffer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                buffer.flip();
+                if (read <= 0) {
+                    endOfFile = true;
+                    return sawAnything ? currentLine() : null;
+                }
+            }
+            byte b = buffer.get();
+            sawAnything = true;
+            if (b == '\n') {
+                return currentLine();
+            }
+            if (lineLength == line.length) {
+                line = Arrays.copyOf(line, line.length * 2);
+            }
+            line[lineLength++] = b;
+        }
+    }
+
+    private String currentLine() {
+        int length = lineLength;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return new String(line, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
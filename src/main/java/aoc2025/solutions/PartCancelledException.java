@@ -0,0 +1,13 @@
+package aoc2025.solutions;
+
+/**
+ * Thrown from {@link CancellationToken#checkpoint()} when a part is cancelled. The
+ * message says why and how far the part got.
+ */
+public class PartCancelledException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public PartCancelledException(String message) {
+        super(message);
+    }
+}
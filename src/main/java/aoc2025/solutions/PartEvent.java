@@ -0,0 +1,42 @@
+package aoc2025.solutions;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event covering one phase (parse, part 1 or part 2) of a {@link Day} run.
+ * The event's duration is the phase's wall time; enable it in a recording with
+ * {@code -XX:StartFlightRecording} and look for "aoc2025.Phase" under "Advent of Code".
+ */
+@Name("aoc2025.Phase")
+@Label("Solver Phase")
+@Category("Advent of Code")
+@Description("One parse or part of a daily solution")
+public class PartEvent extends Event {
+    @Label("Day")
+    public int day;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Allocated")
+    @DataAmount
+    public long allocatedBytes;
+
+    @Label("GC Count")
+    public long gcCount;
+
+    @Label("GC Time")
+    @Timespan(Timespan.MILLISECONDS)
+    public long gcMillis;
+
+    @Label("Peak Heap")
+    @Description("JVM-wide peak heap; -1 when the phase overlapped another")
+    @DataAmount
+    public long peakHeapBytes;
+}
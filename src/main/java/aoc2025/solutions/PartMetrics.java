@@ -0,0 +1,209 @@
+package aoc2025.solutions;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wall time, allocation and GC activity of one phase of a {@link Day} run.
+ *
+ * <p>Allocated bytes come from {@code com.sun.management.ThreadMXBean} and count only the
+ * solving thread, so they stay accurate when days run concurrently (they are unavailable,
+ * reported as -1, on JVMs or threads that do not support the counter). GC count/time are
+ * JVM-wide: with several days in flight they include the other days' work. Peak heap is
+ * JVM-wide too, and measuring it means resetting the pools' peaks, so it is only taken
+ * for a phase that ran alone; a phase that overlapped another reports it as -1.
+ *
+ * <p>Every recorded phase is also committed as a {@link PartEvent} for Flight Recorder.
+ */
+public class PartMetrics {
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+    private static final List<MemoryPoolMXBean> POOLS = ManagementFactory.getMemoryPoolMXBeans();
+    /** Phases being recorded right now, and how many have ever started, to spot overlaps. */
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+    private static final AtomicLong STARTED = new AtomicLong();
+
+    private final long nanos;
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcMillis;
+    private final long peakHeapBytes;
+    private final boolean cached;
+
+    public PartMetrics(long nanos, long allocatedBytes, long gcCount, long gcMillis, long peakHeapBytes) {
+        this(nanos, allocatedBytes, gcCount, gcMillis, peakHeapBytes, false);
+    }
+
+    private PartMetrics(long nanos, long allocatedBytes, long gcCount, long gcMillis, long peakHeapBytes, boolean cached) {
+        this.nanos = nanos;
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+        this.peakHeapBytes = peakHeapBytes;
+        this.cached = cached;
+    }
+
+    /**
+     * Metrics for an answer served from the {@link AnswerCache}; only the original run time is known.
+     */
+    public static PartMetrics cached(long nanos) {
+        return new PartMetrics(nanos, -1, 0, 0, 0, true);
+    }
+
+    /**
+     * Starts measuring a phase on the current thread.
+     *
+     * @param day the day number, for the JFR event
+     * @param phase "parse", "part1" or "part2"
+     * @return a recorder; call {@link Recorder#stop()} on the same thread when the phase ends
+     */
+    public static Recorder start(int day, String phase) {
+        return new Recorder(day, phase);
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcMillis() {
+        return gcMillis;
+    }
+
+    /** @return the JVM-wide peak heap during the phase, or -1 if other phases ran alongside it */
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    public boolean isCached() {
+        return cached;
+    }
+
+    /**
+     * @return e.g. "12 ms, 3.4 MB allocated, 1 GC (2 ms), peak heap 40.0 MB" (peak heap
+     *         "n/a" when the phase overlapped others), or "cached, originally 12 ms" for a
+     *         cached answer
+     */
+    @Override
+    public String toString() {
+        if (cached) return String.format(Locale.ROOT, "cached, originally %d ms", nanos / 1_000_000);
+        String allocated = allocatedBytes < 0 ? "n/a" : formatBytes(allocatedBytes);
+        String peakHeap = peakHeapBytes < 0 ? "n/a" : formatBytes(peakHeapBytes);
+        return String.format(Locale.ROOT, "%d ms, %s allocated, %d GC%s (%d ms), peak heap %s",
+                nanos / 1_000_000, allocated, gcCount, gcCount == 1 ? "" : "s", gcMillis, peakHeap);
+    }
+
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+        if (bytes < 1024L * 1024 * 1024) return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024));
+        return String.format(Locale.ROOT, "%.2f GB", bytes / (1024.0 * 1024 * 1024));
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    private static long allocatedByCurrentThread() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            total += Math.max(0, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    /**
+     * Measures one phase between {@link PartMetrics#start(int, String)} and {@link #stop()}.
+     */
+    public static class Recorder {
+        private final PartEvent event = new PartEvent();
+        private final long startAllocated;
+        private final long startGcCount;
+        private final long startGcMillis;
+        private final long startNanos;
+        private final long startNumber;
+        private final boolean alone;
+
+        private Recorder(int day, String phase) {
+            event.day = day;
+            event.phase = phase;
+            startNumber = STARTED.incrementAndGet();
+            // Resetting the peaks is JVM-wide, so only a phase with nothing else in flight may do it
+            alone = ACTIVE.incrementAndGet() == 1;
+            if (alone) {
+                for (MemoryPoolMXBean pool : POOLS) {
+                    if (pool.getType() == MemoryType.HEAP) {
+                        pool.resetPeakUsage();
+                    }
+                }
+            }
+            startGcCount = totalGcCount();
+            startGcMillis = totalGcMillis();
+            startAllocated = allocatedByCurrentThread();
+            event.begin();
+            startNanos = System.nanoTime();
+        }
+
+        /**
+         * Ends the phase, commits its JFR event and returns the measurements.
+         */
+        public PartMetrics stop() {
+            long nanos = System.nanoTime() - startNanos;
+            event.end();
+            long endAllocated = allocatedByCurrentThread();
+            long allocated = (startAllocated < 0 || endAllocated < 0) ? -1 : endAllocated - startAllocated;
+            long peakHeap = -1;
+            // Still alone if no other phase started since this one
+            if (alone && STARTED.get() == startNumber) {
+                peakHeap = 0;
+                for (MemoryPoolMXBean pool : POOLS) {
+                    if (pool.getType() == MemoryType.HEAP) {
+                        peakHeap += pool.getPeakUsage().getUsed();
+                    }
+                }
+            }
+            ACTIVE.decrementAndGet();
+            PartMetrics metrics = new PartMetrics(nanos, allocated,
+                    totalGcCount() - startGcCount, totalGcMillis() - startGcMillis, peakHeap);
+
+            if (event.shouldCommit()) {
+                event.allocatedBytes = allocated;
+                event.gcCount = metrics.gcCount;
+                event.gcMillis = metrics.gcMillis;
+                event.peakHeapBytes = peakHeap;
+                event.commit();
+            }
+            return metrics;
+        }
+    }
+}
@@ -1,33 +1,9 @@
 package aoc2025.solutions;
 
-public class PatternMatcher {
+import java.util.Arrays;
+import java.util.BitSet;
 
-    /**
-     * Hardcoded lookup table for proper divisors.
-     * Sorted in DESCENDING order.
-     */
-    private static final int[][] DIVISORS = {
-        {},                     // 0
-        {},                     // 1
-        {1},                    // 2
-        {1},                    // 3
-        {2, 1},                 // 4
-        {1},                    // 5
-        {3, 2, 1},              // 6
-        {1},                    // 7
-        {4, 2, 1},              // 8
-        {3, 1},                 // 9
-        {5, 2, 1},              // 10
-        {1},                    // 11
-        {6, 4, 3, 2, 1},        // 12
-        {1},                    // 13
-        {7, 2, 1},              // 14
-        {5, 3, 1},              // 15
-        {8, 4, 2, 1},           // 16
-        {1},                    // 17
-        {9, 6, 3, 2, 1},        // 18
-        {1}                     // 19
-    };
+public class PatternMatcher {
 
     /**
      * Powers of 10 lookup table to avoid Math.pow overhead.
@@ -55,61 +31,104 @@ public class PatternMatcher {
         1000000000000000000L
     };
 
+    /**
+     * MULTIPLIERS[len] holds M = (10^len - 1) / (10^d - 1) = 1 + 10^d + 10^(2d) + ... for
+     * each maximal proper divisor d = len / p of len (p prime), e.g. {1001, 10101} for 6.
+     * A len-digit number is a pattern of d digits repeated exactly when M divides it, and
+     * a pattern of any shorter length d' repeats with some maximal d as well (d' divides
+     * some len / p), so one divisibility test per prime factor of len decides it.
+     */
+    private static final long[][] MULTIPLIERS = new long[POWERS_OF_10.length + 1][];
+
+    static {
+        for (int len = 1; len < MULTIPLIERS.length; len++) {
+            long[] multipliers = new long[0];
+            int rest = len;
+            for (int p = 2; p <= rest; p++) {
+                if (rest % p != 0) continue;
+                while (rest % p == 0) rest /= p;
+                int d = len / p;
+                long multiplier = 0;
+                for (int i = 0; i < p; i++) {
+                    multiplier = multiplier * POWERS_OF_10[d] + 1;
+                }
+                multipliers = Arrays.copyOf(multipliers, multipliers.length + 1);
+                multipliers[multipliers.length - 1] = multiplier;
+            }
+            MULTIPLIERS[len] = multipliers;
+        }
+    }
+
     /**
      * Checks if the given number 'n' consists of a repeating pattern using primitives only.
+     * Allocation-free: at most three remainders against the {@link #MULTIPLIERS} table.
      */
     public static boolean hasRepeatingPattern(long n) {
-        if (n < 10) return false; 
+        if (n < 10) return false;
 
         // 1. Calculate length efficiently using integer comparison
         // This avoids the overhead of Math.log10 (floating point conversion)
         int len = getLength(n);
 
-        if (len >= DIVISORS.length) return false;
+        // 2. One divisibility test per maximal pattern length
+        for (long multiplier : MULTIPLIERS[len]) {
+            if (n % multiplier == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        int[] divs = DIVISORS[len];
-        
-        // Use a simple boolean flag array to mark failures.
-        boolean[] failed = new boolean[len + 1];
+    /**
+     * Classifies every ID in 'ids': bit i of 'out' is set exactly when ids[i] has a
+     * repeating pattern. Bits from ids.length on are left alone.
+     */
+    public static void classify(long[] ids, BitSet out) {
+        out.clear(0, ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            if (hasRepeatingPattern(ids[i])) {
+                out.set(i);
+            }
+        }
+    }
 
-        // 2. Iterate through candidates (Primitive Array)
-        for (int currentLen : divs) {
-            
-            // Pruning: If this length was already marked as failed (by a larger multiple), skip it.
-            if (failed[currentLen]) continue;
+    /**
+     * Classifies the dense range [from, to]: bit (n - from) of 'out' is set exactly when n
+     * has a repeating pattern. Instead of testing every n, this walks the multiples of
+     * each table multiplier inside the range, so it costs one step per repeating ID.
+     *
+     * @throws IllegalArgumentException if the range is negative or has more than
+     *         Integer.MAX_VALUE IDs
+     */
+    public static void classifyRange(long from, long to, BitSet out) {
+        if (from < 0 || to - from >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Cannot classify " + from + "-" + to + " into a BitSet");
+        }
+        if (from > to) return;
+        out.clear(0, (int) (to - from + 1));
 
-            if (checkPatternMath(n, len, currentLen)) {
-                return true; 
-            } else {
-                // Failure Logic: If 8 fails, mark 4, 2, 1 as failed.
-                for (int k = 1; k <= currentLen / 2; k++) {
-                    if (currentLen % k == 0) {
-                        failed[k] = true;
-                    }
+        for (int len = Math.max(2, getLength(from)); len <= getLength(to); len++) {
+            // Clip the range to the numbers with exactly len digits
+            long low = Math.max(from, POWERS_OF_10[len - 1]);
+            long high = len < POWERS_OF_10.length ? Math.min(to, POWERS_OF_10[len] - 1) : to;
+            for (long multiplier : MULTIPLIERS[len]) {
+                // The repeats are P * M for consecutive patterns P
+                for (long p = Math.ceilDiv(low, multiplier); p <= high / multiplier; p++) {
+                    out.set((int) (p * multiplier - from));
                 }
             }
         }
-
-        return false;
     }
 
-    private static boolean checkPatternMath(long n, int totalLen, int patLen) {
-        long shift = POWERS_OF_10[totalLen - patLen];
-        long pattern = n / shift; 
-        long mask = POWERS_OF_10[patLen];
-        long tempN = n;
-        
-        int steps = totalLen / patLen;
-        
-        for (int k = 0; k < steps; k++) {
-            long chunk = tempN % mask; 
-            if (chunk != pattern) {
-                return false;
-            }
-            tempN /= mask; 
-        }
-        
-        return true;
+    /**
+     * Checks if 'n' is some digit sequence written twice (e.g. 1212, 123123), the Part 1 rule:
+     * an even-length number is a repeated half exactly when it is a multiple of 10^half + 1.
+     */
+    public static boolean hasRepeatedHalf(long n) {
+        if (n < 10) return false;
+        int len = getLength(n);
+        if (len % 2 != 0) return false;
+        return n % (POWERS_OF_10[len / 2] + 1) == 0;
     }
 
     /**
@@ -133,10 +152,10 @@ public class PatternMatcher {
             }
         } else { // 11 or more
             if (n < 100000000000000L) { // 11 to 14
-                if (n < 100000000000L) {
-                    return (n < 10000000000L) ? 11 : 12;
+                if (n < 1000000000000L) {
+                    return (n < 100000000000L) ? 11 : 12;
                 } else {
-                    return (n < 1000000000000L) ? 13 : 14;
+                    return (n < 10000000000000L) ? 13 : 14;
                 }
             } else { // 15 to 19
                 if (n < 10000000000000000L) {
@@ -0,0 +1,172 @@
+package aoc2025.solutions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Sums a rule over many ID ranges in parallel.
+ * <p>
+ * {@link #coalesce(long[], long[])} merges overlapping ranges, so an ID covered by several
+ * of them is counted once; {@link #sum} takes the ranges as given. They are reduced with a
+ * fork-join split over the common pool: batches of ranges are halved until small, and a
+ * single range wider than the leaf span is halved by value, so one huge range does not
+ * end up on one worker. Sums are {@link ExactSum}s all the way up, so the total cannot
+ * overflow.
+ */
+public final class RangeSums {
+    /** Ranges per leaf: enough that forking costs nothing next to the work. */
+    private static final int LEAF_RANGES = 256;
+    /** Leaf span that never splits a range, for rules that do not loop over IDs. */
+    public static final long NO_SPLIT = Long.MAX_VALUE;
+
+    /**
+     * What to add up over one range of IDs.
+     */
+    @FunctionalInterface
+    public interface Rule {
+        /** Adds the rule's sum over [lower, upper] to {@code sum}. */
+        void addTo(ExactSum sum, long lower, long upper);
+    }
+
+    private RangeSums() { }
+
+    /**
+     * Merges overlapping and touching ranges. The starts and ends are sorted separately:
+     * with every range non-empty, the i-th smallest start and the i-th smallest end still
+     * bracket the same merged intervals, and two primitive sorts are cheaper than sorting
+     * pairs. Empty ranges (upper below lower) are dropped.
+     *
+     * @return {lowers, uppers} of the disjoint ranges, in ascending order
+     */
+    public static long[][] coalesce(long[] lowers, long[] uppers) {
+        long[] starts = new long[lowers.length];
+        long[] ends = new long[lowers.length];
+        int count = 0;
+        for (int i = 0; i < lowers.length; i++) {
+            if (lowers[i] > uppers[i]) continue;
+            starts[count] = lowers[i];
+            ends[count] = uppers[i];
+            count++;
+        }
+        Arrays.sort(starts, 0, count);
+        Arrays.sort(ends, 0, count);
+
+        long[] mergedLowers = new long[count];
+        long[] mergedUppers = new long[count];
+        int merged = 0;
+        int first = 0;
+        for (int i = 0; i < count; i++) {
+            // A merged range ends where no later range starts at or right after its end
+            if (i + 1 == count || starts[i + 1] - 1 > ends[i]) {
+                mergedLowers[merged] = starts[first];
+                mergedUppers[merged] = ends[i];
+                merged++;
+                first = i + 1;
+            }
+        }
+        return new long[][] {Arrays.copyOf(mergedLowers, merged), Arrays.copyOf(mergedUppers, merged)};
+    }
+
+    /**
+     * Sums {@code rule} over each of the ranges; an ID in two overlapping ranges counts
+     * twice, so coalesce them first to count it once.
+     *
+     * @param leafSpan widest range one task handles without splitting it, or
+     *                 {@link #NO_SPLIT} when the rule's cost does not grow with the width
+     */
+    public static ExactSum sum(long[] lowers, long[] uppers, Rule rule, long leafSpan) {
+        BatchTask task = new BatchTask(lowers, uppers, 0, lowers.length, rule, leafSpan, CancellationToken.current());
+        if (lowers.length <= LEAF_RANGES && leafSpan == NO_SPLIT) return task.compute();
+        return ForkJoinPool.commonPool().invoke(task);
+    }
+
+    /** Sums a slice of the ranges, halving it by index until it is small. */
+    private static final class BatchTask extends RecursiveTask<ExactSum> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] lowers;
+        private final long[] uppers;
+        private final int from;
+        private final int to;
+        private final transient Rule rule;
+        private final long leafSpan;
+        // Workers do not inherit the part's thread-local token, so it is handed down
+        private final transient CancellationToken token;
+
+        BatchTask(long[] lowers, long[] uppers, int from, int to, Rule rule, long leafSpan, CancellationToken token) {
+            this.lowers = lowers;
+            this.uppers = uppers;
+            this.from = from;
+            this.to = to;
+            this.rule = rule;
+            this.leafSpan = leafSpan;
+            this.token = token;
+        }
+
+        @Override
+        protected ExactSum compute() {
+            if (to - from > LEAF_RANGES) {
+                int middle = (from + to) >>> 1;
+                BatchTask left = new BatchTask(lowers, uppers, from, middle, rule, leafSpan, token);
+                left.fork();
+                ExactSum sum = new BatchTask(lowers, uppers, middle, to, rule, leafSpan, token).compute();
+                sum.add(left.join());
+                return sum;
+            }
+            token.checkpoint();
+            ExactSum sum = new ExactSum();
+            List<SpanTask> wide = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (uppers[i] - lowers[i] < leafSpan) {
+                    rule.addTo(sum, lowers[i], uppers[i]);
+                } else {
+                    SpanTask span = new SpanTask(lowers[i], uppers[i], rule, leafSpan, token);
+                    span.fork();
+                    wide.add(span);
+                }
+            }
+            for (SpanTask span : wide) {
+                sum.add(span.join());
+            }
+            return sum;
+        }
+    }
+
+    /** Sums one wide range, halving it by value until it is at most the leaf span. */
+    private static final class SpanTask extends RecursiveTask<ExactSum> {
+        private static final long serialVersionUID = 1L;
+
+        private final long lower;
+        private final long upper;
+        private final transient Rule rule;
+        private final long leafSpan;
+        private final transient CancellationToken token;
+
+        SpanTask(long lower, long upper, Rule rule, long leafSpan, CancellationToken token) {
+            this.lower = lower;
+            this.upper = upper;
+            this.rule = rule;
+            this.leafSpan = leafSpan;
+            this.token = token;
+        }
+
+        @Override
+        protected ExactSum compute() {
+            if (upper - lower < leafSpan) {
+                token.checkpoint();
+                ExactSum sum = new ExactSum();
+                rule.addTo(sum, lower, upper);
+                return sum;
+            }
+            long middle = lower + (upper - lower) / 2;
+            SpanTask left = new SpanTask(lower, middle, rule, leafSpan, token);
+            left.fork();
+            ExactSum sum = new SpanTask(middle + 1, upper, rule, leafSpan, token).compute();
+            sum.add(left.join());
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package aoc2025.solutions;
+
+/**
+ * Diagnostic output for the solutions, off by default and written to standard error.
+ * <p>
+ * The level is read once from {@code -Daoc.trace}: {@code info} for progress messages,
+ * {@code debug} for per-iteration detail as well. Call sites guard each message with the
+ * level flag, for example {@code if (Trace.DEBUG) Trace.log("Extend circuit");}. The flags
+ * are {@code static final}, so when tracing is off the JIT folds the test away together
+ * with the string building behind it.
+ */
+public final class Trace {
+    public static final boolean INFO;
+    public static final boolean DEBUG;
+
+    static {
+        String level = System.getProperty("aoc.trace", "off");
+        DEBUG = level.equals("debug");
+        INFO = DEBUG || level.equals("info");
+    }
+
+    private Trace() { }
+
+    public static void log(String message) {
+        System.err.println(message);
+    }
+
+    public static void log(String format, Object... args) {
+        System.err.printf(format + "%n", args);
+    }
+}
@@ -0,0 +1,26 @@
+package aoc2025.solutions;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a public method of a {@link Day} as an alternative algorithm for one part. It
+ * takes the day's parsed model and returns the answer, like {@code part1}/{@code part2}.
+ * {@link DayRegistry} lists the variants of a day from these annotations alone.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Variant {
+    /** The part this method solves, 1 or 2. */
+    int part();
+
+    /** Short name, unique within the part, e.g. "recursive". */
+    String name();
+
+    /** One line on how this variant differs from the default. */
+    String description() default "";
+}
@@ -1,46 +1,195 @@
 package aoc2025.util;
 
 import java.io.IOException;
-import java.io.FileWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Downloads puzzle inputs into {@code src/main/resources/dayNN.txt}, where {@code Day}
+ * finds them on the classpath.
+ * <p>
+ * A range of days ({@code 1-12}) is fetched concurrently, at most {@code aoc.concurrency}
+ * requests at a time, and failed requests (I/O errors, 429 and 5xx) are retried with
+ * exponential backoff. Every response is kept in an on-disk cache under
+ * {@code aoc.cache}/YEAR/dayNN.txt together with its ETag and Last-Modified headers, and
+ * later runs revalidate with If-None-Match/If-Modified-Since so an unchanged input is
+ * never downloaded twice. Files are written to a temporary file and moved into place, so
+ * a reader never sees a partial input. {@code aoc.baseUrl} points the fetcher at another
+ * server, such as a local stub, or a mirror mounted under a path prefix.
+ */
 public class DownloadInputs {
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long INITIAL_BACKOFF_MILLIS = 500;
+
+    private final HttpClient client;
+    private final URI baseUrl;
+    private final String sessionCookie;
+    private final Path cacheDir;
+    private final Path outputDir;
+    private final Semaphore permits;
+
+    public DownloadInputs(HttpClient client, URI baseUrl, String sessionCookie, Path cacheDir, Path outputDir, int maxConcurrency) {
+        this.client = client;
+        // Resolve inputs relative to the base, keeping any path prefix it has
+        String base = baseUrl.toString();
+        this.baseUrl = base.endsWith("/") ? baseUrl : URI.create(base + "/");
+        this.sessionCookie = sessionCookie.trim();
+        this.cacheDir = cacheDir;
+        this.outputDir = outputDir;
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+    }
+
     public static void main(String[] args) throws IOException, InterruptedException {
         if (args.length != 3) {
-            System.out.println("Usage: java aoc2025.util.DownloadInputs <YEAR> <DAY> <SESSION_COOKIE>");
+            System.out.println("Usage: java aoc2025.util.DownloadInputs <YEAR> <DAY|FIRST-LAST> <SESSION_COOKIE>");
             System.exit(1);
         }
         int year = Integer.parseInt(args[0]);
-        int day = Integer.parseInt(args[1]);
-        String sessionCookie = args[2];
-        String url = String.format("https://adventofcode.com/%d/day/%d/input", year, day);
-        HttpClient client = HttpClient.newHttpClient();
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Cookie", "session=" + sessionCookie.trim())
-                .build();
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-        if (response.statusCode() == 200) {
-            Files.createDirectories(Paths.get("resources"));
-            String filename = String.format("resources/day%02d.txt", day);
-            try (FileWriter writer = new FileWriter(filename)) {
-                writer.write(response.body().strip() + "\n");
-            }
-            System.out.printf("Downloaded input for Day %d to %s\n", day, filename);
-            // Also create or update the writeup file with the puzzle title and link
+        String[] days = args[1].split("-");
+        int first = Integer.parseInt(days[0]);
+        int last = Integer.parseInt(days[days.length - 1]);
+
+        DownloadInputs downloader = new DownloadInputs(
+                HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build(),
+                URI.create(System.getProperty("aoc.baseUrl", "https://adventofcode.com")),
+                args[2],
+                Paths.get(System.getProperty("aoc.cache", Paths.get(System.getProperty("user.home"), ".cache", "aoc").toString())),
+                Paths.get(System.getProperty("aoc.inputDir", "src/main/resources")),
+                Integer.getInteger("aoc.concurrency", 4));
+
+        List<CompletableFuture<Void>> downloads = new ArrayList<>();
+        for (int day = first; day <= last; day++) {
+            int d = day;
+            downloads.add(downloader.fetch(year, day).handle((result, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof UncheckedIOException) cause = cause.getCause();
+                    System.out.printf("Failed to download input for Day %d: %s%n", d, cause.getMessage());
+                    return null;
+                }
+                System.out.printf("%s input for Day %d to %s%n", result.downloaded() ? "Downloaded" : "Cached", d, result.path());
+                if (result.downloaded()) {
+                    // Also create or update the writeup file with the puzzle title and link
+                    try {
+                        aoc2025.util.WriteupUtil.createWriteup(year, d);
+                    } catch (IOException e) {
+                        System.out.printf("Could not create writeup for Day %d: %s%n", d, e.getMessage());
+                    }
+                }
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(downloads.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    /**
+     * Where an input ended up, and whether it was downloaded (rather than confirmed
+     * unchanged by the server or served from the cache).
+     */
+    public record Result(Path path, boolean downloaded) { }
+
+    /**
+     * Fetches one day's input, revalidating against the cache, and installs it in the
+     * output directory.
+     */
+    public CompletableFuture<Result> fetch(int year, int day) {
+        Path cached = cacheDir.resolve(Integer.toString(year)).resolve(String.format("day%02d.txt", day));
+        Path meta = cached.resolveSibling(String.format("day%02d.properties", day));
+        Properties validators = readValidators(cached, meta);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .uri(baseUrl.resolve(String.format("%d/day/%d/input", year, day)))
+                .timeout(Duration.ofSeconds(30))
+                .header("Cookie", "session=" + sessionCookie);
+        if (validators.containsKey("etag")) request.header("If-None-Match", validators.getProperty("etag"));
+        if (validators.containsKey("lastModified")) request.header("If-Modified-Since", validators.getProperty("lastModified"));
+
+        return send(request.build(), 1).thenApply(response -> {
             try {
-                aoc2025.util.WriteupUtil.createWriteup(year, day);
+                boolean downloaded = response.statusCode() == 200;
+                if (downloaded) {
+                    writeAtomically(cached, response.body().strip() + "\n");
+                    Properties headers = new Properties();
+                    response.headers().firstValue("ETag").ifPresent(v -> headers.setProperty("etag", v));
+                    response.headers().firstValue("Last-Modified").ifPresent(v -> headers.setProperty("lastModified", v));
+                    StringWriter text = new StringWriter();
+                    headers.store(text, "Validators for " + cached.getFileName());
+                    writeAtomically(meta, text.toString());
+                } else if (response.statusCode() != 304) {
+                    throw new IOException("HTTP " + response.statusCode() + ": " + response.body().strip());
+                }
+                Path target = outputDir.resolve(String.format("day%02d.txt", day));
+                writeAtomically(target, Files.readString(cached));
+                return new Result(target, downloaded);
             } catch (IOException e) {
-                System.out.printf("Could not create writeup for Day %d: %s\n", day, e.getMessage());
+                throw new UncheckedIOException(e);
             }
-        } else {
-            System.out.printf("Failed to download input: HTTP %d\n", response.statusCode());
-            System.out.println(response.body());
+        });
+    }
+
+    /**
+     * Sends a request once a concurrency permit is free, retrying I/O failures, 429 and
+     * 5xx responses with exponential backoff.
+     */
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request, int attempt) {
+        permits.acquireUninterruptibly();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    permits.release();
+                    boolean retryable = error != null || response.statusCode() == 429 || response.statusCode() >= 500;
+                    if (!retryable) return CompletableFuture.completedFuture(response);
+                    if (attempt >= MAX_ATTEMPTS) {
+                        return error != null ? CompletableFuture.<HttpResponse<String>>failedFuture(error)
+                                : CompletableFuture.completedFuture(response);
+                    }
+                    long backoff = INITIAL_BACKOFF_MILLIS << (attempt - 1);
+                    Executor delayed = CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS);
+                    return CompletableFuture.supplyAsync(() -> request, delayed).thenCompose(r -> send(r, attempt + 1));
+                })
+                .thenCompose(future -> future);
+    }
+
+    /**
+     * The cached validators, but only if the cached body they describe still exists.
+     */
+    private static Properties readValidators(Path cached, Path meta) {
+        Properties validators = new Properties();
+        if (Files.exists(cached) && Files.exists(meta)) {
+            try (var reader = Files.newBufferedReader(meta)) {
+                validators.load(reader);
+            } catch (IOException e) {
+                validators.clear();
+            }
+        }
+        return validators;
+    }
+
+    private static void writeAtomically(Path target, String content) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.writeString(temp, content, StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
         }
     }
 }
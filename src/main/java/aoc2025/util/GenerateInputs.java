@@ -0,0 +1,451 @@
+package aoc2025.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Writes synthetic puzzle inputs for load testing. Each day's generator follows the
+ * format (and the constraints the solutions rely on) of the real input, with its size
+ * multiplied by a scale factor. At scale 1 the output is about the size of a real input.
+ * The same day, scale and seed always produce the same bytes, so benchmark runs over
+ * generated data are reproducible.
+ */
+public class GenerateInputs {
+    public static final int LAST_DAY = 12;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 4) {
+            System.out.println("Usage: java aoc2025.util.GenerateInputs <DAY|all> [SCALE] [SEED] [OUTPUT_DIR]");
+            System.exit(1);
+        }
+        int scale = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 2025;
+        Path outputDir = Paths.get(args.length > 3 ? args[3] : "target/generated-inputs");
+        Files.createDirectories(outputDir);
+
+        int first = args[0].equals("all") ? 1 : Integer.parseInt(args[0]);
+        int last = args[0].equals("all") ? LAST_DAY : first;
+        for (int day = first; day <= last; day++) {
+            Path file = outputDir.resolve(String.format("day%02d-x%d-s%d.txt", day, scale, seed));
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                generate(day, scale, seed, writer);
+            }
+            System.out.printf("Generated input for Day %d to %s (%d bytes)%n", day, file, Files.size(file));
+        }
+    }
+
+    /**
+     * Writes the input for one day. The scale multiplies the line count, or the side
+     * length for the grid days (4 and 7).
+     */
+    public static void generate(int day, int scale, long seed, Writer out) throws IOException {
+        if (scale < 1) throw new IllegalArgumentException("Scale must be at least 1: " + scale);
+        SplittableRandom random = new SplittableRandom(seed * 31 + day);
+        switch (day) {
+            case 1 -> day01(random, scale, out);
+            case 2 -> day02(random, scale, out);
+            case 3 -> day03(random, scale, out);
+            case 4 -> day04(random, scale, out);
+            case 5 -> day05(random, scale, out);
+            case 6 -> day06(random, scale, out);
+            case 7 -> day07(random, scale, out);
+            case 8 -> day08(random, scale, out);
+            case 9 -> day09(random, scale, out);
+            case 10 -> day10(random, scale, out);
+            case 11 -> day11(random, scale, out);
+            case 12 -> day12(random, scale, out);
+            default -> throw new IllegalArgumentException("Invalid day: " + day);
+        }
+    }
+
+    /**
+     * Generates the input in memory, one entry per line, in the form {@code Day.parse} expects.
+     */
+    public static ArrayList<String> generateLines(int day, int scale, long seed) {
+        StringWriter buffer = new StringWriter();
+        try {
+            generate(day, scale, seed, buffer);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return new ArrayList<>(Arrays.asList(buffer.toString().split("\n")));
+    }
+
+    /** Dial rotations: 4,000 lines per scale step, each a direction and a distance below 1000. */
+    private static void day01(SplittableRandom random, int scale, Writer out) throws IOException {
+        int lines = 4_000 * scale;
+        for (int i = 0; i < lines; i++) {
+            out.write(random.nextBoolean() ? 'L' : 'R');
+            out.write(Integer.toString(random.nextInt(1, 1000)));
+            out.write('\n');
+        }
+    }
+
+    /**
+     * Product ID ranges on one comma-separated line. Bounds are spread log-uniformly
+     * up to 10^15; widths grow with the scale. Every eighth range is overlapped by an
+     * extra one starting inside it, which may run on into the next range.
+     */
+    private static void day02(SplittableRandom random, int scale, Writer out) throws IOException {
+        int count = 32 * scale;
+        long[] starts = new long[count];
+        for (int i = 0; i < count; i++) {
+            starts[i] = (long) Math.pow(10, random.nextDouble(0, 15));
+        }
+        starts = Arrays.stream(starts).sorted().distinct().toArray();
+        long maxWidth = 100_000L * scale;
+        ArrayList<String> ranges = new ArrayList<>();
+        for (int i = 0; i < starts.length; i++) {
+            long limit = i + 1 < starts.length ? starts[i + 1] - 1 : Long.MAX_VALUE;
+            long end = Math.min(limit, starts[i] + random.nextLong(maxWidth));
+            ranges.add(starts[i] + "-" + end);
+            if (i % 8 == 0) {
+                long from = starts[i] + random.nextLong(end - starts[i] + 1);
+                ranges.add(from + "-" + (from + random.nextLong(maxWidth)));
+            }
+        }
+        for (int i = ranges.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String swap = ranges.get(i);
+            ranges.set(i, ranges.get(j));
+            ranges.set(j, swap);
+        }
+        out.write(String.join(",", ranges));
+        out.write('\n');
+    }
+
+    /** Battery banks: 200 lines of 100 digits (1-9) per scale step. */
+    private static void day03(SplittableRandom random, int scale, Writer out) throws IOException {
+        int lines = 200 * scale;
+        char[] bank = new char[100];
+        for (int i = 0; i < lines; i++) {
+            for (int j = 0; j < bank.length; j++) {
+                bank[j] = (char) ('1' + random.nextInt(9));
+            }
+            out.write(bank);
+            out.write('\n');
+        }
+    }
+
+    /** Paper roll grid: a square of side 140 per scale step, about 60% rolls. */
+    private static void day04(SplittableRandom random, int scale, Writer out) throws IOException {
+        int side = 140 * scale;
+        char[] row = new char[side];
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                row[c] = random.nextInt(10) < 6 ? '@' : '.';
+            }
+            out.write(row);
+            out.write('\n');
+        }
+    }
+
+    /**
+     * Fresh ingredient ranges (overlapping, as in the real input), a blank line and the
+     * available ingredient IDs: 180 ranges and 1,000 IDs per scale step.
+     */
+    private static void day05(SplittableRandom random, int scale, Writer out) throws IOException {
+        long maxId = 500_000_000_000_000L;
+        int ranges = 180 * scale;
+        for (int i = 0; i < ranges; i++) {
+            long start = random.nextLong(1, maxId);
+            long end = start + random.nextLong(maxId / 50);
+            out.write(start + "-" + end + "\n");
+        }
+        out.write('\n');
+        int ids = 1_000 * scale;
+        for (int i = 0; i < ids; i++) {
+            out.write(random.nextLong(1, maxId) + "\n");
+        }
+    }
+
+    /**
+     * Math worksheet: four rows of 1-4 digit numbers over an operator row, 1,000 problems
+     * per scale step. Each problem is randomly left or right aligned within its columns,
+     * since part 2 reads the digits column by column.
+     */
+    private static void day06(SplittableRandom random, int scale, Writer out) throws IOException {
+        int problems = 1_000 * scale;
+        int rows = 4;
+        StringBuilder[] lines = new StringBuilder[rows + 1];
+        for (int r = 0; r <= rows; r++) {
+            lines[r] = new StringBuilder();
+        }
+        String[] numbers = new String[rows];
+        for (int p = 0; p < problems; p++) {
+            int width = 0;
+            for (int r = 0; r < rows; r++) {
+                int digits = random.nextInt(1, 5);
+                numbers[r] = Integer.toString(random.nextInt(digits == 1 ? 1 : (int) Math.pow(10, digits - 1), (int) Math.pow(10, digits)));
+                width = Math.max(width, numbers[r].length());
+            }
+            boolean rightAligned = random.nextBoolean();
+            for (int r = 0; r < rows; r++) {
+                String padding = " ".repeat(width - numbers[r].length());
+                lines[r].append(rightAligned ? padding + numbers[r] : numbers[r] + padding);
+            }
+            lines[rows].append(random.nextBoolean() ? '*' : '+').append(" ".repeat(width - 1));
+            if (p + 1 < problems) {
+                for (StringBuilder line : lines) {
+                    line.append(' ');
+                }
+            }
+        }
+        for (StringBuilder line : lines) {
+            out.write(line.toString());
+            out.write('\n');
+        }
+    }
+
+    /**
+     * Tachyon manifold: the source centred on the top row, with splitters on every other
+     * row inside the cone the beam can reach. About 142 rows and 141 columns per scale step.
+     */
+    private static void day07(SplittableRandom random, int scale, Writer out) throws IOException {
+        int width = 141 * scale;
+        int height = 142 * scale;
+        int middle = width / 2;
+        char[] row = new char[width];
+        Arrays.fill(row, '.');
+        row[middle] = 'S';
+        out.write(row);
+        out.write('\n');
+        row[middle] = '.';
+        for (int r = 1; r < height; r++) {
+            Arrays.fill(row, '.');
+            int spread = r / 2 - 1;
+            if (r % 2 == 0 && spread < middle) {
+                for (int c = middle - spread; c <= middle + spread; c += 2) {
+                    if (random.nextInt(10) < 7) row[c] = '^';
+                }
+            }
+            out.write(row);
+            out.write('\n');
+        }
+    }
+
+    /** Junction boxes: 1,000 distinct points per scale step in a 100,000 unit cube. */
+    private static void day08(SplittableRandom random, int scale, Writer out) throws IOException {
+        int boxes = 1_000 * scale;
+        for (int i = 0; i < boxes; i++) {
+            out.write(random.nextInt(100_000) + "," + random.nextInt(100_000) + "," + random.nextInt(100_000) + "\n");
+        }
+    }
+
+    /**
+     * Red tiles at the corners of a simple rectilinear polygon, about 500 per scale step.
+     * Anchor points walk monotonically around the four quadrants of a circle and each pair
+     * of neighbours is joined through one corner tile. The corner is picked at random
+     * between the inner and outer one, which cuts notches into the outline, except next to
+     * the four axis anchors where the outer corner keeps the edges from overlapping.
+     */
+    private static void day09(SplittableRandom random, int scale, Writer out) throws IOException {
+        int perQuadrant = 125 * scale;
+        int radius = Math.max(48_000, 2 * perQuadrant);
+        int centre = radius + 1_000;
+        ArrayList<int[]> anchors = new ArrayList<>();
+        for (int q = 0; q < 4; q++) {
+            int[] d1 = sortedOffsets(random, perQuadrant, radius);
+            int[] d2 = sortedOffsets(random, perQuadrant, radius);
+            for (int i = 0; i < perQuadrant; i++) {
+                // Clockwise from the top: top to right, right to bottom, bottom to left, left to top
+                anchors.add(switch (q) {
+                    case 0 -> new int[]{centre + d1[i], centre - radius + d2[i]};
+                    case 1 -> new int[]{centre + radius - d1[i], centre + d2[i]};
+                    case 2 -> new int[]{centre - d1[i], centre + radius - d2[i]};
+                    default -> new int[]{centre - radius + d1[i], centre - d2[i]};
+                });
+            }
+        }
+        for (int i = 0; i < anchors.size(); i++) {
+            int[] from = anchors.get(i);
+            int[] to = anchors.get((i + 1) % anchors.size());
+            int[] outer = {to[0], from[1]};
+            int[] inner = {from[0], to[1]};
+            if (distance(inner, centre) > distance(outer, centre)) {
+                int[] swap = outer;
+                outer = inner;
+                inner = swap;
+            }
+            boolean nearAxis = i % perQuadrant == 0 || (i + 1) % perQuadrant == 0;
+            int[] corner = nearAxis || random.nextBoolean() ? outer : inner;
+            out.write(from[0] + "," + from[1] + "\n");
+            out.write(corner[0] + "," + corner[1] + "\n");
+        }
+    }
+
+    /** Strictly increasing offsets starting at 0 and staying below the radius. */
+    private static int[] sortedOffsets(SplittableRandom random, int count, int radius) {
+        int[] offsets = random.ints(0, radius / count).limit(count).toArray();
+        offsets[0] = 0;
+        for (int i = 1; i < count; i++) {
+            offsets[i] += offsets[i - 1] + 1;
+        }
+        return offsets;
+    }
+
+    private static long distance(int[] point, int centre) {
+        return Math.abs((long) point[0] - centre) + Math.abs((long) point[1] - centre);
+    }
+
+    /**
+     * Factory machines, 170 per scale step. The light diagram is the XOR of a random set
+     * of buttons and the joltage targets come from random press counts, so both parts
+     * always have a solution. Every counter is wired to at least one button.
+     */
+    private static void day10(SplittableRandom random, int scale, Writer out) throws IOException {
+        int machines = 170 * scale;
+        for (int m = 0; m < machines; m++) {
+            int lights = random.nextInt(4, 11);
+            int buttons = random.nextInt(lights - 1, lights + 4);
+            boolean[][] wiring = new boolean[buttons][lights];
+            for (int b = 0; b < buttons; b++) {
+                int wires = random.nextInt(1, lights);
+                for (int w = 0; w < wires; w++) {
+                    wiring[b][random.nextInt(lights)] = true;
+                }
+            }
+            for (int l = 0; l < lights; l++) {
+                wiring[random.nextInt(buttons)][l] = true;
+            }
+
+            boolean[] diagram = new boolean[lights];
+            int[] joltage = new int[lights];
+            for (int b = 0; b < buttons; b++) {
+                boolean toggle = random.nextBoolean();
+                int presses = random.nextInt(1, 20);
+                for (int l = 0; l < lights; l++) {
+                    if (!wiring[b][l]) continue;
+                    if (toggle) diagram[l] = !diagram[l];
+                    joltage[l] += presses;
+                }
+            }
+
+            StringBuilder line = new StringBuilder("[");
+            for (boolean on : diagram) {
+                line.append(on ? '#' : '.');
+            }
+            line.append(']');
+            for (boolean[] button : wiring) {
+                StringBuilder wires = new StringBuilder();
+                for (int l = 0; l < lights; l++) {
+                    if (button[l]) wires.append(wires.isEmpty() ? "" : ",").append(l);
+                }
+                line.append(" (").append(wires).append(')');
+            }
+            line.append(" {");
+            for (int l = 0; l < lights; l++) {
+                line.append(l == 0 ? "" : ",").append(joltage[l]);
+            }
+            out.write(line.append("}\n").toString());
+        }
+    }
+
+    /**
+     * Device network: a DAG of about 600 devices per scale step. Devices are laid out in
+     * topological order and most feed a single device a short distance ahead, so the graph
+     * is deep rather than wide. svr comes first, you a tenth of the way in, fft and dac at a
+     * third and two thirds, and everything drains into out. Apart from two shortcuts (svr
+     * past fft and fft past dac) edges never jump over fft or dac, so the real input's mix of
+     * routes that do and do not visit them is kept. Route counts grow exponentially with
+     * depth, so beyond a scale of about 3 they no longer fit in a long.
+     */
+    private static void day11(SplittableRandom random, int scale, Writer out) throws IOException {
+        int devices = 600 * scale;
+        int fft = devices / 3;
+        int dac = 2 * devices / 3;
+        String[] names = deviceNames(random, devices);
+        names[0] = "svr";
+        names[devices / 10] = "you";
+        names[fft] = "fft";
+        names[dac] = "dac";
+        int window = 12;
+        for (int i = 0; i < devices; i++) {
+            StringBuilder line = new StringBuilder(names[i]).append(':');
+            int limit = i < fft ? fft : i < dac ? dac : devices - 1;
+            if (i == devices - 1) {
+                line.append(" out");
+            } else {
+                int outputs = random.nextInt(10) < 8 ? 1 : 2;
+                int[] targets = random.ints(i + 1, i + 1 + window)
+                        .map(target -> Math.min(target, limit))
+                        .limit(outputs).distinct().toArray();
+                for (int target : targets) {
+                    line.append(' ').append(names[target]);
+                }
+                if (i == 0) line.append(' ').append(names[fft + 1]);
+                if (i == fft) line.append(' ').append(names[dac + 1]);
+                if (i > dac && random.nextInt(50) == 0) line.append(" out");
+            }
+            out.write(line.append('\n').toString());
+        }
+    }
+
+    /**
+     * Distinct lowercase names, three letters long (longer when there are more devices than
+     * three letters allow), shuffled and avoiding the names with a special meaning.
+     */
+    private static String[] deviceNames(SplittableRandom random, int count) {
+        int length = 3;
+        while (Math.pow(26, length) < 2L * count) length++;
+        long space = (long) Math.pow(26, length);
+        // Stepping by a multiplier coprime to the space visits every name once
+        long step = 7_919;
+        long offset = random.nextLong(space);
+        String[] names = new String[count];
+        int found = 0;
+        for (long i = 0; found < count; i++) {
+            long value = Math.floorMod(offset + i * step, space);
+            char[] letters = new char[length];
+            for (int c = length - 1; c >= 0; c--) {
+                letters[c] = (char) ('a' + value % 26);
+                value /= 26;
+            }
+            String name = new String(letters);
+            if (name.equals("you") || name.equals("out") || name.equals("svr") || name.equals("fft") || name.equals("dac")) continue;
+            names[found++] = name;
+        }
+        return names;
+    }
+
+    /**
+     * Present shapes and tree regions: six 3x3 shapes followed by 1,000 regions per scale
+     * step, each asking for a random number of every shape in a 35x35 to 50x50 area.
+     */
+    private static void day12(SplittableRandom random, int scale, Writer out) throws IOException {
+        int shapes = 6;
+        for (int s = 0; s < shapes; s++) {
+            out.write(s + ":\n");
+            char[][] shape = new char[3][3];
+            for (char[] row : shape) {
+                for (int c = 0; c < 3; c++) {
+                    row[c] = random.nextInt(10) < 7 ? '#' : '.';
+                }
+            }
+            shape[1][1] = '#';
+            for (char[] row : shape) {
+                out.write(row);
+                out.write('\n');
+            }
+            out.write('\n');
+        }
+        int regions = 1_000 * scale;
+        for (int r = 0; r < regions; r++) {
+            int width = random.nextInt(35, 51);
+            int length = random.nextInt(35, 51);
+            StringBuilder line = new StringBuilder().append(width).append('x').append(length).append(':');
+            for (int s = 0; s < shapes; s++) {
+                line.append(' ').append(random.nextInt(0, width * length / 9 / shapes * 2));
+            }
+            out.write(line.append('\n').toString());
+        }
+    }
+}